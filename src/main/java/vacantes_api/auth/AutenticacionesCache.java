@@ -0,0 +1,144 @@
+package vacantes_api.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import vacantes_api.modelo.event.UsuarioModificadoEvent;
+
+/**
+ * Caché de autenticaciones HTTP Basic correctas que usa
+ * {@link CachingAuthenticationProvider}.
+ * <p>
+ * La clave es un HMAC-SHA256 de usuario y contraseña con una clave aleatoria
+ * generada al arrancar, de modo que la contraseña no se conserva en memoria ni
+ * la clave sirve fuera de este proceso. Se guarda solo el email y las
+ * autoridades, y cada acierto devuelve una autenticación nueva cuyo principal
+ * es el email, sin compartir entidades entre peticiones.
+ * <p>
+ * Las entradas de un usuario se eliminan al recibir un
+ * {@link UsuarioModificadoEvent} (cambio de contraseña, rol o estado).
+ */
+@Component
+public class AutenticacionesCache {
+
+    private static final String ALGORITMO_HMAC = "HmacSHA256";
+
+    private final Cache<String, Instantanea> cache;
+
+    private final SecretKeySpec claveHmac;
+
+    /**
+     * Crea la caché.
+     *
+     * @param ttl          tiempo máximo que una autenticación permanece en caché.
+     * @param tamanoMaximo número máximo de entradas.
+     */
+    public AutenticacionesCache(@Value("${vacantes.auth.cache.ttl:PT5M}") Duration ttl,
+            @Value("${vacantes.auth.cache.tamano-maximo:10000}") long tamanoMaximo) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(tamanoMaximo)
+                .build();
+
+        byte[] clave = new byte[32];
+        new SecureRandom().nextBytes(clave);
+        this.claveHmac = new SecretKeySpec(clave, ALGORITMO_HMAC);
+    }
+
+    /**
+     * Devuelve una autenticación nueva si las credenciales ya se validaron
+     * dentro del TTL.
+     *
+     * @param usuario  nombre de usuario.
+     * @param password contraseña en claro.
+     * @return autenticación con el email como principal, o vacío.
+     */
+    public Optional<UsernamePasswordAuthenticationToken> buscar(String usuario, String password) {
+        return Optional.ofNullable(cache.getIfPresent(clave(usuario, password))).map(Instantanea::autenticacion);
+    }
+
+    /**
+     * Guarda una autenticación correcta y devuelve su copia inmutable.
+     *
+     * @param usuario       nombre de usuario.
+     * @param password      contraseña en claro.
+     * @param autenticacion resultado de la autenticación.
+     * @return autenticación con el email como principal.
+     */
+    public UsernamePasswordAuthenticationToken guardar(String usuario, String password,
+            Authentication autenticacion) {
+        Instantanea instantanea = new Instantanea(autenticacion.getName(), autenticacion.getAuthorities().stream()
+                .<GrantedAuthority>map(a -> new SimpleGrantedAuthority(a.getAuthority()))
+                .toList());
+        cache.put(clave(usuario, password), instantanea);
+        return instantanea.autenticacion();
+    }
+
+    /**
+     * Elimina de la caché las autenticaciones del usuario modificado una vez
+     * confirmada la transacción (o inmediatamente si no hay transacción).
+     *
+     * @param evento evento con el email del usuario.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUsuarioModificado(UsuarioModificadoEvent evento) {
+        cache.asMap().values().removeIf(i -> i.getEmail().equals(evento.getEmail()));
+    }
+
+    /**
+     * Calcula la clave de caché a partir de las credenciales.
+     *
+     * @param usuario  nombre de usuario.
+     * @param password contraseña en claro.
+     * @return HMAC-SHA256 de las credenciales en Base64.
+     */
+    private String clave(String usuario, String password) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO_HMAC);
+            mac.init(claveHmac);
+            mac.update(usuario.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 no disponible", e);
+        }
+    }
+
+    /**
+     * Datos inmutables de una autenticación correcta.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class Instantanea {
+
+        private final String email;
+
+        private final List<GrantedAuthority> autoridades;
+
+        UsernamePasswordAuthenticationToken autenticacion() {
+            return UsernamePasswordAuthenticationToken.authenticated(email, null, autoridades);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package vacantes_api.auth;
+
+import java.util.Optional;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * Proveedor de autenticación que evita repetir la consulta del usuario y la
+ * comprobación BCrypt en cada petición HTTP Basic.
+ * <p>
+ * Delega en un {@link DaoAuthenticationProvider} y guarda las autenticaciones
+ * correctas en {@link AutenticacionesCache}. Las credenciales incorrectas nunca
+ * se cachean. El principal de la autenticación devuelta es siempre el email
+ * del usuario, igual que con los tokens de {@link TokenService}.
+ * <p>
+ * No se registra como bean: {@link SpringSecurityConfig} lo crea para la
+ * cadena de filtros, de modo que el AuthenticationManager global no lo recoge.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private final DaoAuthenticationProvider delegado;
+
+    private final AutenticacionesCache cache;
+
+    /**
+     * Crea el proveedor.
+     *
+     * @param delegado proveedor que valida las credenciales contra la base de
+     *                 datos.
+     * @param cache    caché de autenticaciones correctas.
+     */
+    public CachingAuthenticationProvider(DaoAuthenticationProvider delegado, AutenticacionesCache cache) {
+        this.delegado = delegado;
+        this.cache = cache;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si las credenciales ya se validaron dentro del TTL se devuelve una nueva
+     * autenticación sin consultar la base de datos.
+     */
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (authentication.getCredentials() == null) {
+            return delegado.authenticate(authentication);
+        }
+
+        String usuario = authentication.getName();
+        String password = authentication.getCredentials().toString();
+        Optional<UsernamePasswordAuthenticationToken> cacheada = cache.buscar(usuario, password);
+        UsernamePasswordAuthenticationToken resultado = cacheada.isPresent()
+                ? cacheada.get()
+                : cache.guardar(usuario, password, delegado.authenticate(authentication));
+        resultado.setDetails(authentication.getDetails());
+        return resultado;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegado.supports(authentication);
+    }
+}
@@ -0,0 +1,71 @@
+package vacantes_api.auth;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import vacantes_api.modelo.dto.EmpresaActualDTO;
+import vacantes_api.modelo.event.UsuarioModificadoEvent;
+import vacantes_api.modelo.service.IEmpresaService;
+
+/**
+ * Caché por usuario de la empresa a la que pertenece (email → idEmpresa, rol
+ * y estado), para no consultar Empresas y Usuarios en cada escritura de una
+ * empresa.
+ * <p>
+ * Solo se cachean usuarios con empresa. Las entradas se eliminan al recibir un
+ * {@link UsuarioModificadoEvent}, que se publica al activar o desactivar la
+ * empresa, al actualizar sus datos o el perfil y al eliminar el usuario.
+ */
+@Component
+public class EmpresaActualCache {
+
+    private final IEmpresaService empresaService;
+
+    private final Cache<String, EmpresaActualDTO> cache;
+
+    /**
+     * Crea la caché.
+     *
+     * @param empresaService servicio con el que se cargan las entradas.
+     * @param ttl            tiempo máximo que una entrada permanece en caché.
+     * @param tamanoMaximo   número máximo de entradas.
+     */
+    public EmpresaActualCache(IEmpresaService empresaService,
+            @Value("${vacantes.auth.empresa-cache.ttl:PT10M}") Duration ttl,
+            @Value("${vacantes.auth.empresa-cache.tamano-maximo:10000}") long tamanoMaximo) {
+        this.empresaService = empresaService;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(tamanoMaximo)
+                .build();
+    }
+
+    /**
+     * Devuelve la empresa del usuario, consultándola solo si no está en caché.
+     *
+     * @param email email del usuario.
+     * @return datos de su empresa, o vacío si el usuario no tiene empresa.
+     */
+    public Optional<EmpresaActualDTO> obtener(String email) {
+        return Optional.ofNullable(cache.get(email, e -> empresaService.findEmpresaActual(e).orElse(null)));
+    }
+
+    /**
+     * Elimina la entrada del usuario modificado una vez confirmada la
+     * transacción (o inmediatamente si no hay transacción).
+     *
+     * @param evento evento con el email del usuario.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUsuarioModificado(UsuarioModificadoEvent evento) {
+        cache.invalidate(evento.getEmail());
+    }
+}
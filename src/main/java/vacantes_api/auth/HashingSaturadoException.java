@@ -0,0 +1,28 @@
+package vacantes_api.auth;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Se lanza cuando el pool de {@link PasswordEncoderAcotado} no admite más
+ * operaciones. Es una {@link org.springframework.security.core.AuthenticationException}
+ * para que, en HTTP Basic, llegue al punto de entrada de la cadena de
+ * seguridad, que responde 503 en lugar de 401.
+ */
+public class HashingSaturadoException extends AuthenticationServiceException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Segundos que se indican al cliente en {@code Retry-After}.
+     */
+    public static final int REINTENTO_SEGUNDOS = 1;
+
+    /**
+     * Crea la excepción.
+     *
+     * @param mensaje descripción del error.
+     */
+    public HashingSaturadoException(String mensaje) {
+        super(mensaje);
+    }
+}
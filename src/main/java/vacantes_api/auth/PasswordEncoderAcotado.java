@@ -0,0 +1,152 @@
+package vacantes_api.auth;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link PasswordEncoder} que ejecuta el hash y la verificación de contraseñas
+ * del codificador delegado (BCrypt) en un pool propio y acotado.
+ * <p>
+ * BCrypt consume CPU durante decenas de milisegundos; ejecutado en los hilos de
+ * las peticiones, una avalancha de logins los ocupa todos y deja sin servicio a
+ * las lecturas baratas. Aquí el trabajo se hace en tantos hilos como núcleos,
+ * con una cola de tamaño limitado: cuando la cola está llena se lanza
+ * {@link HashingSaturadoException} de inmediato, que se responde con 503 y
+ * {@code Retry-After}.
+ * <p>
+ * Métricas publicadas:
+ * <ul>
+ * <li>{@code vacantes.bcrypt.cola}: tareas en espera.</li>
+ * <li>{@code vacantes.bcrypt.activos}: hilos calculando un hash.</li>
+ * <li>{@code vacantes.bcrypt.duracion}: tiempo de cálculo, con la etiqueta
+ * {@code operacion} ({@code encode} o {@code matches}).</li>
+ * <li>{@code vacantes.bcrypt.rechazos}: peticiones rechazadas por saturación.</li>
+ * </ul>
+ */
+public class PasswordEncoderAcotado implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegado;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Timer duracionEncode;
+
+    private final Timer duracionMatches;
+
+    private final Counter rechazos;
+
+    /**
+     * Crea el codificador.
+     *
+     * @param delegado   codificador que calcula los hashes.
+     * @param hilos      número de hilos del pool.
+     * @param colaMaxima número máximo de tareas en espera.
+     * @param registry   registro de métricas.
+     */
+    public PasswordEncoderAcotado(PasswordEncoder delegado, int hilos, int colaMaxima, MeterRegistry registry) {
+        this.delegado = delegado;
+        this.executor = new ThreadPoolExecutor(hilos, hilos, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(colaMaxima), hilosBcrypt(), new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("vacantes.bcrypt.cola", executor, e -> e.getQueue().size())
+                .description("Operaciones BCrypt en espera")
+                .register(registry);
+        Gauge.builder("vacantes.bcrypt.activos", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hilos calculando un hash BCrypt")
+                .register(registry);
+        this.duracionEncode = Timer.builder("vacantes.bcrypt.duracion")
+                .tag("operacion", "encode")
+                .description("Tiempo de cálculo de BCrypt")
+                .register(registry);
+        this.duracionMatches = Timer.builder("vacantes.bcrypt.duracion")
+                .tag("operacion", "matches")
+                .description("Tiempo de cálculo de BCrypt")
+                .register(registry);
+        this.rechazos = Counter.builder("vacantes.bcrypt.rechazos")
+                .description("Operaciones BCrypt rechazadas por saturación")
+                .register(registry);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return ejecutar(() -> duracionEncode.recordCallable(() -> delegado.encode(rawPassword)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return ejecutar(() -> duracionMatches.recordCallable(() -> delegado.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegado.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Detiene el pool al cerrar el contexto.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Envía la operación al pool y espera su resultado.
+     *
+     * @throws HashingSaturadoException si la cola está llena.
+     */
+    private <T> T ejecutar(Callable<T> operacion) {
+        Future<T> resultado;
+        try {
+            resultado = executor.submit(operacion);
+        } catch (RejectedExecutionException e) {
+            rechazos.increment();
+            throw new HashingSaturadoException("Demasiadas autenticaciones en curso, inténtelo de nuevo");
+        }
+
+        try {
+            return resultado.get();
+        } catch (InterruptedException e) {
+            resultado.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando el cálculo del hash", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static ThreadFactory hilosBcrypt() {
+        AtomicInteger contador = new AtomicInteger();
+        return tarea -> {
+            Thread hilo = new Thread(tarea, "bcrypt-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        };
+    }
+}
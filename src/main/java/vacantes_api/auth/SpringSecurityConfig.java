@@ -2,64 +2,97 @@ package vacantes_api.auth;
 
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Configuración general de seguridad para la API.
  * Define los filtros de seguridad, autorización de rutas y política CORS.
  */
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 public class SpringSecurityConfig {
 
         /**
-         * Bean para codificar contraseñas utilizando BCrypt.
+         * Bean para codificar contraseñas utilizando BCrypt. Los hashes se
+         * calculan en un pool acotado ({@link PasswordEncoderAcotado}) para que
+         * una avalancha de logins no ocupe los hilos de las peticiones.
          *
+         * @param hilos      hilos del pool; si es 0, uno por núcleo.
+         * @param colaMaxima operaciones en espera antes de responder 503.
+         * @param registry   registro de métricas.
          * @return instancia de PasswordEncoder.
          */
         @Bean
-        PasswordEncoder passwordEncoder() {
-                return new BCryptPasswordEncoder();
+        PasswordEncoderAcotado passwordEncoder(@Value("${vacantes.auth.bcrypt.hilos:0}") int hilos,
+                        @Value("${vacantes.auth.bcrypt.cola-maxima:64}") int colaMaxima,
+                        MeterRegistry registry) {
+                int tamano = hilos > 0 ? hilos : Runtime.getRuntime().availableProcessors();
+                return new PasswordEncoderAcotado(new BCryptPasswordEncoder(), tamano, colaMaxima, registry);
         }
 
         /**
          * Bean que proporciona el AuthenticationManager necesario para autenticación.
+         * Valida las credenciales con un {@link DaoAuthenticationProvider}
+         * envuelto en {@link CachingAuthenticationProvider}, que no se expone
+         * como bean para que Spring Security no lo registre en el gestor global.
          *
-         * @param authenticationConfiguration configuración de autenticación.
+         * @param userDetailsService servicio de carga de usuarios.
+         * @param passwordEncoder    codificador de contraseñas.
+         * @param cache              caché de autenticaciones correctas.
          * @return AuthenticationManager configurado.
-         * @throws Exception si no puede crearse el gestor.
          */
         @Bean
-        public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration)
-                        throws Exception {
-                return authenticationConfiguration.getAuthenticationManager();
+        public AuthenticationManager authenticationManager(UserDetailsService userDetailsService,
+                        PasswordEncoderAcotado passwordEncoder, AutenticacionesCache cache) {
+                DaoAuthenticationProvider dao = new DaoAuthenticationProvider(passwordEncoder);
+                dao.setUserDetailsService(userDetailsService);
+                return new ProviderManager(new CachingAuthenticationProvider(dao, cache));
         }
 
         /**
          * Configura la cadena de filtros de seguridad HTTP.
          * Define rutas públicas, autenticadas y protegidas por roles.
          *
-         * @param http configuración de seguridad HTTP.
+         * Las peticiones con {@code Authorization: Bearer} se autentican con el
+         * token firmado sin acceder a base de datos; HTTP Basic se mantiene como
+         * alternativa.
+         *
+         * @param http                  configuración de seguridad HTTP.
+         * @param tokenService          servicio de validación de tokens.
+         * @param authenticationManager gestor de autenticación de HTTP Basic.
          * @return filtro de seguridad configurado.
          * @throws Exception en caso de error de configuración.
          */
         @Bean
-        public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        public SecurityFilterChain filterChain(HttpSecurity http, TokenService tokenService,
+                        AuthenticationManager authenticationManager) throws Exception {
                 http
+                                .authenticationManager(authenticationManager)
                                 .csrf(csrf -> csrf.disable())
                                 .cors(Customizer.withDefaults())
                                 .authorizeHttpRequests(authorize -> authorize
@@ -70,7 +103,7 @@ public class SpringSecurityConfig {
                                                 .permitAll()
 
                                                 // Autenticación
-                                                .requestMatchers(HttpMethod.POST, "/auth/login", "/auth/register")
+                                                .requestMatchers(HttpMethod.POST, "/auth/login", "/auth/register", "/auth/refresh")
                                                 .permitAll()
                                                 .requestMatchers(HttpMethod.GET, "/auth/me", "/auth/me1", "/auth/me2")
                                                 .authenticated()
@@ -89,12 +122,15 @@ public class SpringSecurityConfig {
                                                 // Vacantes (público, empresa)
                                                 .requestMatchers(HttpMethod.GET,
                                                                 "/vacantes", "/vacantes/{id}",
+                                                                "/vacantes/pagina",
+                                                                "/vacantes/search",
+                                                                "/vacantes/filtro",
                                                                 "/vacantes/buscar/{nombre}",
                                                                 "/vacantes/categoria/{idCategoria}",
                                                                 "/vacantes/salario/{salario}",
                                                                 "/vacantes/empresa/{nombre}")
                                                 .permitAll()
-                                                .requestMatchers(HttpMethod.POST, "/vacantes")
+                                                .requestMatchers(HttpMethod.POST, "/vacantes", "/vacantes/bulk")
                                                 .hasAuthority("ROLE_EMPRESA")
                                                 .requestMatchers(HttpMethod.PUT, "/vacantes/{id}")
                                                 .hasAuthority("ROLE_EMPRESA")
@@ -122,9 +158,12 @@ public class SpringSecurityConfig {
                                                 .hasAuthority("ROLE_CLIENTE")
                                                 .requestMatchers(HttpMethod.POST, "/solicitudes")
                                                 .hasAuthority("ROLE_CLIENTE")
+                                                .requestMatchers(HttpMethod.POST, "/solicitudes/bulk")
+                                                .hasAuthority("ROLE_ADMON")
                                                 .requestMatchers(HttpMethod.DELETE, "/solicitudes/{id}")
                                                 .hasAuthority("ROLE_CLIENTE")
-                                                .requestMatchers(HttpMethod.GET, "/solicitudes/vacante/{idVacante}")
+                                                .requestMatchers(HttpMethod.GET, "/solicitudes/vacante/{idVacante}",
+                                                                "/solicitudes/vacante/{idVacante}/export")
                                                 .hasAuthority("ROLE_EMPRESA")
                                                 .requestMatchers(HttpMethod.PUT,
                                                                 "/solicitudes/adjudicar/{id}",
@@ -146,14 +185,41 @@ public class SpringSecurityConfig {
                                                                 "/usuarios/desactivar/{id}", "/usuarios/activar/{id}")
                                                 .hasAuthority("ROLE_ADMON")
 
+                                                // Actuator (salud pública, métricas solo admin)
+                                                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                                                .requestMatchers("/actuator/**").hasAuthority("ROLE_ADMON")
+
                                                 .anyRequest().authenticated())
                                 .sessionManagement(session -> session
                                                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                                .httpBasic(Customizer.withDefaults());
+                                .addFilterBefore(new TokenAuthenticationFilter(tokenService),
+                                                BasicAuthenticationFilter.class)
+                                .httpBasic(basic -> basic.authenticationEntryPoint(puntoEntradaBasic()));
 
                 return http.build();
         }
 
+        /**
+         * Punto de entrada de HTTP Basic: responde 503 con {@code Retry-After}
+         * si la autenticación no pudo hacerse por saturación del pool de BCrypt
+         * y 401 con {@code WWW-Authenticate} en el resto de casos.
+         *
+         * @return punto de entrada de autenticación.
+         */
+        private static AuthenticationEntryPoint puntoEntradaBasic() {
+                BasicAuthenticationEntryPoint basic = new BasicAuthenticationEntryPoint();
+                basic.setRealmName("Realm");
+                return (request, response, authException) -> {
+                        if (authException instanceof HashingSaturadoException) {
+                                response.setHeader(HttpHeaders.RETRY_AFTER,
+                                                String.valueOf(HashingSaturadoException.REINTENTO_SEGUNDOS));
+                                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), authException.getMessage());
+                        } else {
+                                basic.commence(request, response, authException);
+                        }
+                };
+        }
+
         /**
          * Configuración global de CORS para permitir peticiones desde el frontend.
          *
@@ -0,0 +1,57 @@
+package vacantes_api.auth;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filtro que autentica la petición a partir de un token de acceso
+ * {@code Authorization: Bearer <token>} emitido por {@link TokenService}.
+ * <p>
+ * El principal de la autenticación es el email del usuario; quien necesite
+ * sus datos los carga a partir de {@code Authentication#getName()}.
+ * <p>
+ * Si el token no es válido la petición continúa sin autenticar y son las
+ * reglas de {@link SpringSecurityConfig} las que deciden si se rechaza.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String PREFIJO_BEARER = "Bearer ";
+
+    private final TokenService tokenService;
+
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
+
+    public TokenAuthenticationFilter(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String cabecera = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (cabecera != null && cabecera.startsWith(PREFIJO_BEARER)) {
+            tokenService.validarAccessToken(cabecera.substring(PREFIJO_BEARER.length())).ifPresent(claims -> {
+                UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken
+                        .authenticated(claims.getEmail(), null, claims.getAuthorities());
+                authentication.setDetails(detailsSource.buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            });
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
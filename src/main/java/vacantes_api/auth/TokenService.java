@@ -0,0 +1,320 @@
+package vacantes_api.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.event.UsuarioModificadoEvent;
+import vacantes_api.modelo.repository.IUsuarioRepository;
+
+/**
+ * Emite y valida tokens firmados con HMAC-SHA256 (formato JWT HS256).
+ * <p>
+ * El token de acceso es de corta duración y se valida solo con la firma y sus
+ * claims, sin consultar la base de datos. El token de refresco dura más y, al
+ * usarse, vuelve a comprobar el usuario en base de datos.
+ * <p>
+ * Ambos tokens incluyen el rol y una huella del hash de la contraseña. Cuando
+ * se recibe un {@link UsuarioModificadoEvent} se guarda en memoria el estado
+ * actual del usuario, y los tokens cuyo rol o huella ya no coinciden (o de
+ * usuarios desactivados o eliminados) dejan de aceptarse.
+ * <p>
+ * Ese estado solo existe en el nodo que procesó la modificación: con varias
+ * instancias, las demás siguen aceptando los tokens de acceso anteriores hasta
+ * que caducan (vacantes.auth.token.duracion-acceso). El refresco sí se rechaza
+ * en todos los nodos, porque compara la huella con la base de datos.
+ * <p>
+ * El secreto (vacantes.auth.token.secreto) es obligatorio y debe tener al
+ * menos {@value #LONGITUD_MINIMA_SECRETO} bytes; todas las instancias deben
+ * compartirlo para aceptar los tokens de las demás.
+ */
+@Component
+public class TokenService {
+
+    private static final String ALGORITMO_HMAC = "HmacSHA256";
+
+    private static final String CABECERA = base64Url("{\"alg\":\"HS256\",\"typ\":\"JWT\"}"
+            .getBytes(StandardCharsets.UTF_8));
+
+    private static final String TIPO_ACCESO = "access";
+
+    private static final String TIPO_REFRESCO = "refresh";
+
+    /**
+     * Longitud mínima del secreto en bytes (la del resultado de HMAC-SHA256).
+     */
+    static final int LONGITUD_MINIMA_SECRETO = 32;
+
+    private final ObjectMapper objectMapper;
+
+    private final IUsuarioRepository usuarioRepository;
+
+    private final SecretKeySpec clave;
+
+    private final Duration duracionAcceso;
+
+    private final Duration duracionRefresco;
+
+    private final Clock clock;
+
+    private final Cache<String, EstadoUsuario> estados;
+
+    /**
+     * Crea el servicio de tokens.
+     *
+     * @param objectMapper      serializador JSON de los claims.
+     * @param usuarioRepository repositorio de usuarios.
+     * @param secreto           clave HMAC, de al menos
+     *                          {@value #LONGITUD_MINIMA_SECRETO} bytes.
+     * @param duracionAcceso    validez del token de acceso.
+     * @param duracionRefresco  validez del token de refresco.
+     */
+    @Autowired
+    public TokenService(ObjectMapper objectMapper, IUsuarioRepository usuarioRepository,
+            @Value("${vacantes.auth.token.secreto:}") String secreto,
+            @Value("${vacantes.auth.token.duracion-acceso:PT15M}") Duration duracionAcceso,
+            @Value("${vacantes.auth.token.duracion-refresco:P7D}") Duration duracionRefresco) {
+        this(objectMapper, usuarioRepository, secreto, duracionAcceso, duracionRefresco, Clock.systemUTC());
+    }
+
+    TokenService(ObjectMapper objectMapper, IUsuarioRepository usuarioRepository, String secreto,
+            Duration duracionAcceso, Duration duracionRefresco, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.usuarioRepository = usuarioRepository;
+        this.duracionAcceso = duracionAcceso;
+        this.duracionRefresco = duracionRefresco;
+        this.clock = clock;
+        this.estados = Caffeine.newBuilder().expireAfterWrite(duracionRefresco).build();
+
+        if (secreto == null || secreto.isBlank()) {
+            throw new IllegalStateException("vacantes.auth.token.secreto no configurado");
+        }
+        byte[] bytesClave = secreto.getBytes(StandardCharsets.UTF_8);
+        if (bytesClave.length < LONGITUD_MINIMA_SECRETO) {
+            throw new IllegalStateException("vacantes.auth.token.secreto debe tener al menos "
+                    + LONGITUD_MINIMA_SECRETO + " bytes");
+        }
+        this.clave = new SecretKeySpec(bytesClave, ALGORITMO_HMAC);
+    }
+
+    /**
+     * Genera un token de acceso para el usuario.
+     *
+     * @param usuario usuario autenticado.
+     * @return token de acceso firmado.
+     */
+    public String generarAccessToken(Usuario usuario) {
+        return generar(usuario, TIPO_ACCESO, duracionAcceso);
+    }
+
+    /**
+     * Genera un token de refresco para el usuario.
+     *
+     * @param usuario usuario autenticado.
+     * @return token de refresco firmado.
+     */
+    public String generarRefreshToken(Usuario usuario) {
+        return generar(usuario, TIPO_REFRESCO, duracionRefresco);
+    }
+
+    /**
+     * Devuelve la validez del token de acceso en segundos.
+     *
+     * @return segundos de validez.
+     */
+    public long getDuracionAccesoSegundos() {
+        return duracionAcceso.toSeconds();
+    }
+
+    /**
+     * Valida un token de acceso sin acceder a la base de datos.
+     *
+     * @param token token recibido en la cabecera {@code Authorization}.
+     * @return email y rol del token, si es válido. Los datos completos del
+     *         usuario deben cargarse por email cuando se necesiten.
+     */
+    public Optional<ClaimsAcceso> validarAccessToken(String token) {
+        return leer(token, TIPO_ACCESO)
+                .map(claims -> new ClaimsAcceso((String) claims.get("sub"), (String) claims.get("rol")));
+    }
+
+    /**
+     * Valida un token de refresco y comprueba en base de datos que el usuario
+     * sigue activo y con la misma contraseña.
+     *
+     * @param token token de refresco.
+     * @return usuario actual, si el token es válido.
+     */
+    public Optional<Usuario> validarRefreshToken(String token) {
+        return leer(token, TIPO_REFRESCO)
+                .flatMap(claims -> usuarioRepository.findById((String) claims.get("sub"))
+                        .filter(u -> Integer.valueOf(1).equals(u.getEnabled()))
+                        .filter(u -> huella(u).equals(claims.get("huella"))));
+    }
+
+    /**
+     * Registra el estado actual del usuario modificado para invalidar los
+     * tokens emitidos con un rol o contraseña anteriores, o si ha sido
+     * desactivado o eliminado.
+     *
+     * @param evento evento con el email del usuario.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUsuarioModificado(UsuarioModificadoEvent evento) {
+        EstadoUsuario estado = usuarioRepository.findById(evento.getEmail())
+                .map(u -> new EstadoUsuario(Integer.valueOf(1).equals(u.getEnabled()), u.getRol(), huella(u)))
+                .orElse(new EstadoUsuario(false, null, null));
+        estados.put(evento.getEmail(), estado);
+    }
+
+    private String generar(Usuario usuario, String tipo, Duration duracion) {
+        long ahora = clock.instant().getEpochSecond();
+
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", usuario.getEmail());
+        claims.put("nombre", usuario.getNombre());
+        claims.put("rol", usuario.getRol());
+        claims.put("huella", huella(usuario));
+        claims.put("typ", tipo);
+        claims.put("iat", ahora);
+        claims.put("exp", ahora + duracion.toSeconds());
+
+        try {
+            String contenido = CABECERA + "." + base64Url(objectMapper.writeValueAsBytes(claims));
+            return contenido + "." + base64Url(firmar(contenido.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException("No se pudo generar el token", e);
+        }
+    }
+
+    /**
+     * Verifica firma, tipo, caducidad y estado del usuario, y devuelve los
+     * claims del token.
+     */
+    private Optional<Map<String, Object>> leer(String token, String tipoEsperado) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        int primerPunto = token.indexOf('.');
+        int ultimoPunto = token.lastIndexOf('.');
+        if (primerPunto < 0 || ultimoPunto == primerPunto) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] firma = Base64.getUrlDecoder().decode(token.substring(ultimoPunto + 1));
+            byte[] esperada = firmar(token.substring(0, ultimoPunto).getBytes(StandardCharsets.UTF_8));
+            if (!MessageDigest.isEqual(firma, esperada)) {
+                return Optional.empty();
+            }
+
+            Map<String, Object> claims = objectMapper.readValue(
+                    Base64.getUrlDecoder().decode(token.substring(primerPunto + 1, ultimoPunto)),
+                    new TypeReference<Map<String, Object>>() {
+                    });
+
+            if (!tipoEsperado.equals(claims.get("typ"))
+                    || !(claims.get("exp") instanceof Number exp)
+                    || exp.longValue() <= clock.instant().getEpochSecond()) {
+                return Optional.empty();
+            }
+
+            EstadoUsuario estado = estados.getIfPresent((String) claims.get("sub"));
+            if (estado != null && (!estado.isActivo()
+                    || !estado.getRol().equals(claims.get("rol"))
+                    || !estado.getHuella().equals(claims.get("huella")))) {
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Huella corta del hash de la contraseña, para detectar cambios de
+     * contraseña sin incluir el hash en el token.
+     */
+    private String huella(Usuario usuario) {
+        String password = usuario.getPassword() == null ? "" : usuario.getPassword();
+        return base64Url(Arrays.copyOf(firmar(password.getBytes(StandardCharsets.UTF_8)), 12));
+    }
+
+    private byte[] firmar(byte[] datos) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO_HMAC);
+            mac.init(clave);
+            return mac.doFinal(datos);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 no disponible", e);
+        }
+    }
+
+    private static String base64Url(byte[] datos) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(datos);
+    }
+
+    /**
+     * Datos de un token de acceso válido.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ClaimsAcceso {
+
+        private final String email;
+
+        private final String rol;
+
+        /**
+         * Devuelve la autoridad correspondiente al rol, con el mismo formato que
+         * {@link Usuario#getAuthorities()}.
+         *
+         * @return lista con una única autoridad.
+         */
+        public List<GrantedAuthority> getAuthorities() {
+            return List.of(new SimpleGrantedAuthority("ROLE_" + rol));
+        }
+    }
+
+    /**
+     * Estado conocido de un usuario tras su última modificación.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class EstadoUsuario {
+
+        private final boolean activo;
+
+        private final String rol;
+
+        private final String huella;
+    }
+}
@@ -0,0 +1,30 @@
+package vacantes_api.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de las cachés de la aplicación.
+ * El proveedor (Caffeine), el tamaño y la caducidad se definen en
+ * {@code application.properties} mediante {@code spring.cache.*}; aquí solo se
+ * habilita la caché y se declaran los nombres usados en los servicios.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Listado completo del catálogo de categorías.
+     */
+    public static final String CATEGORIAS = "categorias";
+
+    /**
+     * Categorías por identificador.
+     */
+    public static final String CATEGORIA_POR_ID = "categoriaPorId";
+
+    /**
+     * Búsquedas de categorías por nombre.
+     */
+    public static final String CATEGORIAS_POR_NOMBRE = "categoriasPorNombre";
+}
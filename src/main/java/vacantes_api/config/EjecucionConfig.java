@@ -0,0 +1,112 @@
+package vacantes_api.config;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import vacantes_api.web.LimiteConcurrenciaFilter;
+
+/**
+ * Configuración de la ejecución de peticiones y tareas {@code @Async}.
+ * <p>
+ * Con {@code spring.threads.virtual.enabled=true} Spring Boot atiende cada
+ * petición de Tomcat y cada tarea asíncrona en un hilo virtual. En ese modo se
+ * registra además un {@link LimitadorConcurrencia} que
+ * {@link LimiteConcurrenciaFilter} aplica a las peticiones; el ejecutor de
+ * tareas no se decora con él. Con hilos de plataforma el propio pool de Tomcat
+ * ({@code server.tomcat.threads.max}) acota la concurrencia.
+ */
+@Configuration
+@EnableAsync
+public class EjecucionConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EjecucionConfig.class);
+
+    /**
+     * Tamaño de pool que se asume si el datasource no es de HikariCP.
+     */
+    private static final int POOL_POR_DEFECTO = 10;
+
+    /**
+     * Conexiones del pool que no se reparten entre peticiones. Al insertar una
+     * vacante o solicitud, el {@code @TableGenerator} reserva el siguiente
+     * bloque de IDs ({@link vacantes_api.modelo.entity.GeneradoresId}) en una
+     * transacción aislada con una segunda conexión mientras la petición sigue
+     * reteniendo la suya; si todas las conexiones estuvieran ocupadas por
+     * peticiones, esa reserva esperaría hasta el {@code connection-timeout}.
+     */
+    static final int RESERVA_GENERADOR_IDS = 1;
+
+    /**
+     * Limitador de concurrencia para el modo de hilos virtuales.
+     *
+     * @param dataSource   datasource ya configurado (y dimensionado en
+     *                     {@code prod}).
+     * @param limite       límite explícito; si es 0 se usa el tamaño máximo del
+     *                     pool de conexiones (con open-in-view cada petición
+     *                     retiene su conexión hasta terminar) menos
+     *                     {@value #RESERVA_GENERADOR_IDS}.
+     * @param esperaMaxima tiempo que una petición espera turno antes de
+     *                     responder 503.
+     * @return limitador de peticiones.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    LimitadorConcurrencia limitadorConcurrencia(DataSource dataSource,
+            @Value("${vacantes.concurrencia.limite:0}") int limite,
+            @Value("${vacantes.concurrencia.espera-maxima:PT2S}") Duration esperaMaxima) {
+        int maximo = limite > 0 ? limite : limitePorPool(tamanoPool(dataSource));
+        LOGGER.info("Hilos virtuales activos: máximo {} peticiones simultáneas", maximo);
+        return new LimitadorConcurrencia(maximo, esperaMaxima);
+    }
+
+    /**
+     * Registra el filtro de concurrencia al final de la cadena de filtros.
+     *
+     * @param limitador limitador de concurrencia.
+     * @return registro del filtro.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    FilterRegistrationBean<LimiteConcurrenciaFilter> limiteConcurrenciaFilter(LimitadorConcurrencia limitador) {
+        FilterRegistrationBean<LimiteConcurrenciaFilter> registro = new FilterRegistrationBean<>(
+                new LimiteConcurrenciaFilter(limitador));
+        registro.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registro;
+    }
+
+    /**
+     * Límite de peticiones para un pool de conexiones dado, dejando libres las
+     * conexiones de {@link #RESERVA_GENERADOR_IDS}.
+     */
+    static int limitePorPool(int tamanoPool) {
+        return Math.max(1, tamanoPool - RESERVA_GENERADOR_IDS);
+    }
+
+    /**
+     * Tamaño máximo del pool de conexiones.
+     */
+    private static int tamanoPool(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            LOGGER.warn("No se pudo obtener el tamaño del pool de conexiones", e);
+        }
+        return POOL_POR_DEFECTO;
+    }
+}
@@ -0,0 +1,84 @@
+package vacantes_api.config;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita el número de peticiones HTTP que se procesan a la vez cuando se usan
+ * hilos virtuales.
+ * <p>
+ * Con hilos virtuales ya no hay un pool de Tomcat que acote la concurrencia, y
+ * miles de peticiones simultáneas acabarían esperando una conexión de Hikari
+ * hasta agotar su {@code connection-timeout}. El límite se dimensiona con el
+ * pool de conexiones (ver {@link EjecucionConfig}) y las peticiones que no
+ * obtienen permiso en el tiempo indicado se rechazan en lugar de acumularse
+ * (ver {@link vacantes_api.web.LimiteConcurrenciaFilter}).
+ * <p>
+ * Solo se aplica a peticiones: las tareas del ejecutor de Spring no comparten
+ * estos permisos, porque una tarea lanzada desde una petición que ya tiene
+ * permiso podría quedarse esperando a la propia petición.
+ */
+public class LimitadorConcurrencia {
+
+    private final Semaphore permisos;
+
+    private final int maximo;
+
+    private final Duration esperaMaxima;
+
+    /**
+     * Crea el limitador.
+     *
+     * @param maximo       número máximo de peticiones simultáneas.
+     * @param esperaMaxima tiempo máximo que una petición espera turno.
+     */
+    public LimitadorConcurrencia(int maximo, Duration esperaMaxima) {
+        if (maximo < 1) {
+            throw new IllegalArgumentException("El límite de concurrencia debe ser positivo");
+        }
+        this.permisos = new Semaphore(maximo, true);
+        this.maximo = maximo;
+        this.esperaMaxima = esperaMaxima;
+    }
+
+    /**
+     * Intenta obtener un permiso esperando como mucho la espera máxima.
+     *
+     * @return {@code true} si se ha obtenido; debe liberarse con
+     *         {@link #liberar()}.
+     */
+    public boolean adquirir() {
+        try {
+            return permisos.tryAcquire(esperaMaxima.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Libera un permiso obtenido con {@link #adquirir()}.
+     */
+    public void liberar() {
+        permisos.release();
+    }
+
+    /**
+     * Número máximo de peticiones simultáneas.
+     *
+     * @return límite configurado.
+     */
+    public int getMaximo() {
+        return maximo;
+    }
+
+    /**
+     * Permisos libres en este momento.
+     *
+     * @return permisos disponibles.
+     */
+    public int getDisponibles() {
+        return permisos.availablePermits();
+    }
+}
@@ -0,0 +1,81 @@
+package vacantes_api.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Mide con timers de Micrometer las llamadas a los servicios y mapeadores.
+ * <p>
+ * Métricas publicadas, con las etiquetas {@code clase}, {@code metodo} y
+ * {@code excepcion} ({@code none} si la llamada termina bien):
+ * <ul>
+ * <li>{@code vacantes.servicio}: métodos públicos de los servicios que
+ * implementan {@link vacantes_api.modelo.service.IGenericoCRUD}.</li>
+ * <li>{@code vacantes.mapeo}: conversiones de entidades a DTO de
+ * {@code vacantes_api.modelo.mapper}.</li>
+ * </ul>
+ * Los finders de los repositorios los mide Spring Boot como
+ * {@code spring.data.repository.invocations} y el pool de conexiones como
+ * {@code hikaricp.connections.*}.
+ */
+@Aspect
+@Component
+public class MetricasAspect {
+
+    private final MeterRegistry registry;
+
+    /**
+     * Crea el aspecto.
+     *
+     * @param registry registro de métricas.
+     */
+    public MetricasAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Mide un método de servicio.
+     *
+     * @param joinPoint llamada interceptada.
+     * @return resultado del método.
+     * @throws Throwable la excepción que lance el método.
+     */
+    @Around("execution(public * vacantes_api.modelo.service.IGenericoCRUD+.*(..))")
+    public Object medirServicio(ProceedingJoinPoint joinPoint) throws Throwable {
+        return medir("vacantes.servicio", joinPoint);
+    }
+
+    /**
+     * Mide una conversión de un mapeador.
+     *
+     * @param joinPoint llamada interceptada.
+     * @return resultado de la conversión.
+     * @throws Throwable la excepción que lance la conversión.
+     */
+    @Around("execution(public * vacantes_api.modelo.mapper.*Mapper.*(..))")
+    public Object medirMapeo(ProceedingJoinPoint joinPoint) throws Throwable {
+        return medir("vacantes.mapeo", joinPoint);
+    }
+
+    private Object medir(String nombre, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample muestra = Timer.start(registry);
+        String excepcion = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            excepcion = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            muestra.stop(Timer.builder(nombre)
+                    .tag("clase", joinPoint.getTarget().getClass().getSimpleName())
+                    .tag("metodo", joinPoint.getSignature().getName())
+                    .tag("excepcion", excepcion)
+                    .register(registry));
+        }
+    }
+}
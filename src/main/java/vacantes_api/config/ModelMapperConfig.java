@@ -19,6 +19,10 @@ import vacantes_api.modelo.entity.Vacante;
 /**
  * Clase de configuración de ModelMapper.
  * Define los mapeos personalizados entre entidades y DTOs del sistema.
+ * <p>
+ * Los controladores usan los mapeadores de {@code vacantes_api.modelo.mapper},
+ * que producen los mismos DTOs sin reflexión; este bean se mantiene como
+ * referencia de comportamiento para tests y benchmarks.
  */
 @Configuration
 public class ModelMapperConfig {
@@ -0,0 +1,60 @@
+package vacantes_api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Dimensiona el pool de conexiones de HikariCP en el perfil {@code prod}.
+ * <p>
+ * Si no se ha fijado {@code spring.datasource.hikari.maximum-pool-size}, el
+ * pool se dimensiona como {@code núcleos * 2 + 1} (fórmula recomendada por
+ * HikariCP con un único disco) y con tamaño fijo, para no abrir y cerrar
+ * conexiones bajo carga variable.
+ */
+@Configuration
+@Profile("prod")
+public class PoolConexionesConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PoolConexionesConfig.class);
+
+    private static final String PROPIEDAD_TAMANO = "spring.datasource.hikari.maximum-pool-size";
+
+    /**
+     * Ajusta el tamaño del {@link HikariDataSource} una vez configurado.
+     *
+     * @param environment entorno para comprobar si el tamaño se ha fijado.
+     * @return post-procesador del datasource.
+     */
+    @Bean
+    static BeanPostProcessor dimensionadoPoolConexiones(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && !environment.containsProperty(PROPIEDAD_TAMANO)) {
+                    int tamano = tamanoPool(Runtime.getRuntime().availableProcessors());
+                    dataSource.setMaximumPoolSize(tamano);
+                    dataSource.setMinimumIdle(tamano);
+                    LOGGER.info("Pool de conexiones dimensionado a {} conexiones", tamano);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Número de conexiones para el número de núcleos indicado.
+     *
+     * @param nucleos procesadores disponibles.
+     * @return tamaño del pool.
+     */
+    static int tamanoPool(int nucleos) {
+        return nucleos * 2 + 1;
+    }
+}
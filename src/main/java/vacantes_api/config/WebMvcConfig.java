@@ -0,0 +1,36 @@
+package vacantes_api.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import vacantes_api.web.EmpresaActualArgumentResolver;
+
+/**
+ * Configuración de Spring MVC: registra los resolutores de argumentos propios
+ * de la aplicación.
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final EmpresaActualArgumentResolver empresaActualArgumentResolver;
+
+    /**
+     * Crea la configuración.
+     *
+     * @param empresaActualArgumentResolver resolutor de {@code @EmpresaActual}.
+     */
+    public WebMvcConfig(EmpresaActualArgumentResolver empresaActualArgumentResolver) {
+        this.empresaActualArgumentResolver = empresaActualArgumentResolver;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(empresaActualArgumentResolver);
+    }
+}
@@ -1,7 +1,10 @@
 package vacantes_api.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -9,6 +12,8 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.server.ResponseStatusException;
 
+import vacantes_api.auth.HashingSaturadoException;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -83,6 +88,55 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
 
+    /**
+     * Maneja las denegaciones de {@code @PreAuthorize}: el usuario está
+     * autenticado pero no tiene el rol o no es propietario del recurso.
+     *
+     * @param ex Excepción lanzada por la seguridad de métodos.
+     * @return Respuesta con código 403.
+     */
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<Map<String, Object>> handleAccessDenied(AccessDeniedException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "No tienes permisos para acceder a este recurso");
+        response.put("status", HttpStatus.FORBIDDEN.value());
+
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+    }
+
+    /**
+     * Maneja los conflictos de bloqueo optimista: el recurso se modificó en
+     * otra transacción después de leerlo.
+     *
+     * @param ex Excepción lanzada al guardar una versión obsoleta.
+     * @return Respuesta con código 409.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLocking(OptimisticLockingFailureException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "El recurso ha sido modificado por otra petición, vuelva a intentarlo");
+        response.put("status", HttpStatus.CONFLICT.value());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /**
+     * Maneja la saturación del pool de BCrypt en login y registro.
+     *
+     * @param ex Excepción lanzada por el codificador de contraseñas.
+     * @return Respuesta 503 con cabecera {@code Retry-After}.
+     */
+    @ExceptionHandler(HashingSaturadoException.class)
+    public ResponseEntity<Map<String, Object>> handleHashingSaturado(HashingSaturadoException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", ex.getMessage());
+        response.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(HashingSaturadoException.REINTENTO_SEGUNDOS))
+                .body(response);
+    }
+
     /**
      * Maneja cualquier otra excepción no contemplada explícitamente.
      *
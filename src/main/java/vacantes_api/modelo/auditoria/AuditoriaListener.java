@@ -0,0 +1,162 @@
+package vacantes_api.modelo.auditoria;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Registra en el logger {@value #LOGGER_AUDITORIA} las altas, modificaciones y
+ * bajas de entidades confirmadas por Hibernate.
+ * <p>
+ * Cada evento es una línea {@code clave=valor} con la acción, la entidad, su
+ * identificador y, en las modificaciones, los nombres de los campos que han
+ * cambiado. Nunca se llama a {@code toString()} de la entidad: no se recorren
+ * colecciones perezosas ni se formatean campos de texto largos. El logger se
+ * escribe mediante un appender asíncrono con cola acotada (ver
+ * {@code logback-spring.xml}), de modo que la transacción no espera a la E/S.
+ * <p>
+ * Con {@code vacantes.auditoria.muestreo} menor que 1 solo se registra esa
+ * fracción de los eventos. Las sentencias de actualización masiva
+ * ({@code @Modifying}) no pasan por Hibernate y no se registran aquí.
+ */
+@Component
+public class AuditoriaListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    /**
+     * Nombre del logger de auditoría.
+     */
+    public static final String LOGGER_AUDITORIA = "vacantes.auditoria";
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LOGGER_AUDITORIA);
+
+    private final transient EntityManagerFactory entityManagerFactory;
+
+    private final double muestreo;
+
+    /**
+     * Crea el oyente.
+     *
+     * @param entityManagerFactory factoría en cuyos eventos se registra.
+     * @param muestreo             fracción de eventos registrados, entre 0 y 1.
+     */
+    public AuditoriaListener(EntityManagerFactory entityManagerFactory,
+            @Value("${vacantes.auditoria.muestreo:1.0}") double muestreo) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.muestreo = muestreo;
+    }
+
+    /**
+     * Añade el oyente a los eventos posteriores a la confirmación de Hibernate.
+     */
+    @PostConstruct
+    void registrar() {
+        EventListenerRegistry registro = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registro.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registro.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registro.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (registrable()) {
+            LOGGER.info("accion=INSERT entidad={} id={}", entidad(event.getPersister()), event.getId());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (registrable()) {
+            LOGGER.info("accion=UPDATE entidad={} id={} campos={}", entidad(event.getPersister()), event.getId(),
+                    camposModificados(event));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (registrable()) {
+            LOGGER.info("accion=DELETE entidad={} id={}", entidad(event.getPersister()), event.getId());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // la alta no se ha confirmado: no hay nada que auditar
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // la modificación no se ha confirmado: no hay nada que auditar
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // la baja no se ha confirmado: no hay nada que auditar
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return LOGGER.isInfoEnabled();
+    }
+
+    private boolean registrable() {
+        return LOGGER.isInfoEnabled()
+                && (muestreo >= 1.0 || ThreadLocalRandom.current().nextDouble() < muestreo);
+    }
+
+    private static String entidad(EntityPersister persister) {
+        return persister.getMappedClass().getSimpleName();
+    }
+
+    /**
+     * Nombres de los campos modificados. Si Hibernate no ha calculado los
+     * campos sucios (por ejemplo, en un {@code merge} de una entidad separada
+     * sin estado previo) se devuelve una lista vacía.
+     */
+    private static List<String> camposModificados(PostUpdateEvent event) {
+        int[] sucios = event.getDirtyProperties();
+        if (sucios == null) {
+            return List.of();
+        }
+        String[] nombres = event.getPersister().getPropertyNames();
+        List<String> campos = new ArrayList<>(sucios.length);
+        for (int indice : sucios) {
+            campos.add(nombres[indice]);
+        }
+        return campos;
+    }
+}
@@ -0,0 +1,92 @@
+package vacantes_api.modelo.busqueda;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import vacantes_api.modelo.event.VacanteModificadaEvent;
+import vacantes_api.modelo.repository.IVacanteRepository;
+
+/**
+ * Mantiene {@link IndiceVacantes} sincronizado con la base de datos: lo
+ * construye al arrancar la aplicación y lo actualiza tras cada
+ * {@link VacanteModificadaEvent} confirmado.
+ * <p>
+ * Se ejecuta antes que el resto de oyentes del evento para que, cuando se
+ * invaliden las respuestas cacheadas, el índice ya refleje el cambio.
+ */
+@Component
+public class ActualizadorIndiceVacantes {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ActualizadorIndiceVacantes.class);
+
+    @Autowired
+    private IndiceVacantes indice;
+
+    @Autowired
+    private IVacanteRepository vacanteRepository;
+
+    private volatile boolean construido;
+
+    /**
+     * Construye el índice completo al arrancar la aplicación. Si la base de
+     * datos no está disponible se registra un aviso y el índice se construirá
+     * en la primera búsqueda.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void construirIndice() {
+        try {
+            asegurarConstruido();
+        } catch (DataAccessException | TransactionException e) {
+            LOGGER.warn("No se pudo construir el índice de búsqueda de vacantes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Construye el índice completo si todavía no se ha construido.
+     */
+    public void asegurarConstruido() {
+        if (construido) {
+            return;
+        }
+        synchronized (this) {
+            if (!construido) {
+                indice.reconstruir(vacanteRepository.findAll());
+                construido = true;
+                LOGGER.info("Índice de búsqueda de vacantes construido con {} vacantes", indice.size());
+            }
+        }
+    }
+
+    /**
+     * Reindexa la vacante modificada, o las vacantes de la categoría o empresa
+     * modificada (por ejemplo, al renombrarla), cargándolas por su clave
+     * ajena.
+     *
+     * @param evento evento de modificación de vacantes.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onVacanteModificada(VacanteModificadaEvent evento) {
+        if (evento.getIdVacante() != null) {
+            vacanteRepository.findById(evento.getIdVacante())
+                    .ifPresentOrElse(indice::indexar, () -> indice.eliminar(evento.getIdVacante()));
+        } else if (evento.getIdCategoria() != null) {
+            vacanteRepository.findByCategoriaIdCategoria(evento.getIdCategoria()).forEach(indice::indexar);
+        } else if (evento.getIdEmpresa() != null) {
+            vacanteRepository.findByEmpresaIdEmpresa(evento.getIdEmpresa()).forEach(indice::indexar);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package vacantes_api.modelo.busqueda;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Analizador de texto en español para el índice de búsqueda de vacantes.
+ * <p>
+ * Pasa a minúsculas, elimina tildes y diéresis (la "ñ" se conserva), separa en
+ * palabras alfanuméricas, descarta palabras vacías y reduce los plurales
+ * regulares a singular, de forma que "Informática" y "informatica" o
+ * "desarrolladores" y "desarrollador" generan el mismo término.
+ */
+public final class AnalizadorTexto {
+
+    private static final Set<String> PALABRAS_VACIAS = Set.of(
+            "a", "al", "con", "de", "del", "e", "el", "en", "es", "la", "las", "lo", "los", "o", "para",
+            "por", "que", "se", "su", "sus", "u", "un", "una", "unos", "unas", "y",
+            "and", "of", "the");
+
+    private AnalizadorTexto() {
+    }
+
+    /**
+     * Convierte un texto en la lista de términos normalizados que contiene, en
+     * orden y con repeticiones.
+     *
+     * @param texto texto a analizar (puede ser {@code null}).
+     * @return términos normalizados.
+     */
+    public static List<String> analizar(String texto) {
+        List<String> terminos = new ArrayList<>();
+        if (texto == null || texto.isBlank()) {
+            return terminos;
+        }
+
+        String normalizado = plegarAcentos(texto.toLowerCase());
+        StringBuilder palabra = new StringBuilder();
+        for (int i = 0; i <= normalizado.length(); i++) {
+            char c = i < normalizado.length() ? normalizado.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                palabra.append(c);
+            } else if (!palabra.isEmpty()) {
+                agregarTermino(terminos, palabra.toString());
+                palabra.setLength(0);
+            }
+        }
+        return terminos;
+    }
+
+    private static void agregarTermino(List<String> terminos, String palabra) {
+        if (!PALABRAS_VACIAS.contains(palabra)) {
+            terminos.add(singular(palabra));
+        }
+    }
+
+    /**
+     * Elimina las marcas diacríticas salvo la tilde de la "ñ".
+     */
+    private static String plegarAcentos(String texto) {
+        String descompuesto = Normalizer.normalize(texto.replace('ñ', '\u0001'), Normalizer.Form.NFD);
+        StringBuilder resultado = new StringBuilder(descompuesto.length());
+        for (int i = 0; i < descompuesto.length(); i++) {
+            char c = descompuesto.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                resultado.append(c == '\u0001' ? 'ñ' : c);
+            }
+        }
+        return resultado.toString();
+    }
+
+    /**
+     * Reducción ligera de plurales regulares al singular: "luces" → "luz",
+     * "desarrolladores" → "desarrollador", "redes" → "red", "empresas" →
+     * "empresa", "clientes" → "cliente", "bases" → "base".
+     * <p>
+     * "-es" solo se elimina tras vocal + l, n, r, d o y, las terminaciones
+     * consonánticas habituales en singular; en el resto de casos la "e"
+     * pertenece al singular y solo se elimina la "s". Los singulares no se
+     * modifican.
+     */
+    private static String singular(String palabra) {
+        int n = palabra.length();
+        if (n > 4 && palabra.endsWith("es") && esVocal(palabra.charAt(n - 4))) {
+            char consonante = palabra.charAt(n - 3);
+            if (consonante == 'c') {
+                return palabra.substring(0, n - 3) + "z";
+            }
+            if (consonante == 'l' || consonante == 'n' || consonante == 'r' || consonante == 'd'
+                    || consonante == 'y') {
+                return palabra.substring(0, n - 2);
+            }
+        }
+        if (n > 3 && palabra.endsWith("s") && esVocal(palabra.charAt(n - 2))) {
+            return palabra.substring(0, n - 1);
+        }
+        return palabra;
+    }
+
+    private static boolean esVocal(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u';
+    }
+}
@@ -0,0 +1,216 @@
+package vacantes_api.modelo.busqueda;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import vacantes_api.modelo.entity.Vacante;
+
+/**
+ * Índice invertido en memoria sobre el texto de las vacantes.
+ * <p>
+ * Indexa nombre, descripción, detalles, nombre de categoría y nombre de
+ * empresa con {@link AnalizadorTexto}. Cada campo tiene un peso (el nombre es
+ * el más relevante) y la puntuación de un resultado es la suma, para cada
+ * término de la consulta, de su peso en la vacante por su IDF, multiplicada
+ * por la fracción de términos de la consulta que aparecen en ella.
+ * <p>
+ * Las lecturas pueden ejecutarse en paralelo; las actualizaciones son
+ * exclusivas.
+ */
+@Component
+public class IndiceVacantes {
+
+    private static final float PESO_NOMBRE = 3.0f;
+
+    private static final float PESO_CATEGORIA = 2.0f;
+
+    private static final float PESO_EMPRESA = 2.0f;
+
+    private static final float PESO_DESCRIPCION = 1.0f;
+
+    private static final float PESO_DETALLES = 0.5f;
+
+    /**
+     * Término → (ID de vacante → peso del término en la vacante).
+     */
+    private final Map<String, Map<Integer, Float>> postings = new HashMap<>();
+
+    /**
+     * ID de vacante → términos indexados, para poder eliminarla o
+     * reindexarla.
+     */
+    private final Map<Integer, Collection<String>> documentos = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Indexa (o reindexa) una vacante.
+     *
+     * @param vacante vacante con su categoría y empresa cargadas.
+     */
+    public void indexar(Vacante vacante) {
+        Map<String, Float> pesos = calcularPesos(vacante);
+
+        lock.writeLock().lock();
+        try {
+            eliminarSinBloqueo(vacante.getIdVacante());
+            pesos.forEach((termino, peso) -> postings
+                    .computeIfAbsent(termino, t -> new HashMap<>())
+                    .put(vacante.getIdVacante(), peso));
+            documentos.put(vacante.getIdVacante(), pesos.keySet());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sustituye el contenido completo del índice.
+     *
+     * @param vacantes todas las vacantes a indexar.
+     */
+    public void reconstruir(Collection<Vacante> vacantes) {
+        List<Map.Entry<Integer, Map<String, Float>>> calculados = new ArrayList<>(vacantes.size());
+        for (Vacante vacante : vacantes) {
+            calculados.add(Map.entry(vacante.getIdVacante(), calcularPesos(vacante)));
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentos.clear();
+            for (Map.Entry<Integer, Map<String, Float>> doc : calculados) {
+                doc.getValue().forEach((termino, peso) -> postings
+                        .computeIfAbsent(termino, t -> new HashMap<>())
+                        .put(doc.getKey(), peso));
+                documentos.put(doc.getKey(), doc.getValue().keySet());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Elimina una vacante del índice.
+     *
+     * @param idVacante ID de la vacante.
+     */
+    public void eliminar(Integer idVacante) {
+        lock.writeLock().lock();
+        try {
+            eliminarSinBloqueo(idVacante);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca las vacantes más relevantes para la consulta.
+     *
+     * @param consulta texto libre.
+     * @param limite   número máximo de resultados.
+     * @return IDs de vacante ordenados de mayor a menor relevancia.
+     */
+    public List<Integer> buscar(String consulta, int limite) {
+        List<String> terminos = AnalizadorTexto.analizar(consulta).stream().distinct().toList();
+        if (terminos.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, float[]> puntuaciones = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int total = documentos.size();
+            for (String termino : terminos) {
+                Map<Integer, Float> lista = postings.get(termino);
+                if (lista == null) {
+                    continue;
+                }
+                float idf = (float) Math.log(1.0 + (double) total / lista.size());
+                lista.forEach((id, peso) -> {
+                    float[] acumulado = puntuaciones.computeIfAbsent(id, k -> new float[2]);
+                    acumulado[0] += peso * idf;
+                    acumulado[1]++;
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int numeroTerminos = terminos.size();
+        return puntuaciones.entrySet().stream()
+                .sorted((a, b) -> {
+                    int comparacion = Float.compare(puntuacion(b.getValue(), numeroTerminos),
+                            puntuacion(a.getValue(), numeroTerminos));
+                    return comparacion != 0 ? comparacion : Integer.compare(b.getKey(), a.getKey());
+                })
+                .limit(limite)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Número de vacantes indexadas.
+     *
+     * @return tamaño del índice.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static float puntuacion(float[] acumulado, int numeroTerminos) {
+        return acumulado[0] * acumulado[1] / numeroTerminos;
+    }
+
+    private void eliminarSinBloqueo(Integer idVacante) {
+        Collection<String> terminos = documentos.remove(idVacante);
+        if (terminos == null) {
+            return;
+        }
+        for (String termino : terminos) {
+            Map<Integer, Float> lista = postings.get(termino);
+            if (lista != null) {
+                lista.remove(idVacante);
+                if (lista.isEmpty()) {
+                    postings.remove(termino);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calcula el peso de cada término de la vacante: suma de los pesos de campo
+     * de cada aparición, amortiguada logarítmicamente.
+     */
+    private static Map<String, Float> calcularPesos(Vacante vacante) {
+        Map<String, Float> frecuencias = new HashMap<>();
+        acumular(frecuencias, vacante.getNombre(), PESO_NOMBRE);
+        acumular(frecuencias, vacante.getDescripcion(), PESO_DESCRIPCION);
+        acumular(frecuencias, vacante.getDetalles(), PESO_DETALLES);
+        if (vacante.getCategoria() != null) {
+            acumular(frecuencias, vacante.getCategoria().getNombre(), PESO_CATEGORIA);
+        }
+        if (vacante.getEmpresa() != null) {
+            acumular(frecuencias, vacante.getEmpresa().getNombreEmpresa(), PESO_EMPRESA);
+        }
+        frecuencias.replaceAll((termino, frecuencia) -> 1.0f + (float) Math.log(frecuencia));
+        return frecuencias;
+    }
+
+    private static void acumular(Map<String, Float> frecuencias, String texto, float peso) {
+        for (String termino : AnalizadorTexto.analizar(texto)) {
+            frecuencias.merge(termino, peso, Float::sum);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package vacantes_api.modelo.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmpresaActualDTO {
+
+    private String email;
+
+    private Integer idEmpresa;
+
+    private String rol;
+
+    private Integer enabled;
+}
@@ -0,0 +1,14 @@
+package vacantes_api.modelo.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportacionResultadoDTO {
+
+    private int importados;
+
+    private int lotes;
+}
@@ -11,4 +11,9 @@ public class LoginResponseDTO {
     private String email;
     private String nombre;
     private String rol;
+
+    private String accessToken;
+    private String refreshToken;
+    private String tokenType;
+    private Long expiresIn;
 }
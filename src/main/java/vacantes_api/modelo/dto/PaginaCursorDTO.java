@@ -0,0 +1,22 @@
+package vacantes_api.modelo.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaginaCursorDTO<T> {
+
+    @Builder.Default
+    private List<T> contenido = new ArrayList<>();
+
+    private int limit;
+
+    // Cursor opaco que el cliente envia como "after" para pedir la siguiente pagina
+    // (null si no hay mas resultados)
+    private String siguienteCursor;
+}
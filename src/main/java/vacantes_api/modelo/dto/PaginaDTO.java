@@ -0,0 +1,24 @@
+package vacantes_api.modelo.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaginaDTO<T> {
+
+    @Builder.Default
+    private List<T> contenido = new ArrayList<>();
+
+    private int pagina;
+
+    private int tamano;
+
+    private long totalElementos;
+
+    private int totalPaginas;
+}
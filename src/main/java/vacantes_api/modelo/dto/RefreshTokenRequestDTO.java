@@ -0,0 +1,15 @@
+package vacantes_api.modelo.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshTokenRequestDTO {
+
+    @NotBlank(message = "El refresh token es obligatorio")
+    private String refreshToken;
+
+}
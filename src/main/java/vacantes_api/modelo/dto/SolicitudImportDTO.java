@@ -0,0 +1,36 @@
+package vacantes_api.modelo.dto;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SolicitudImportDTO {
+
+    @NotNull
+    private LocalDate fecha;
+
+    @NotBlank
+    private String archivo;
+
+    private String comentarios;
+
+    // 0 presentada, 1 adjudicada, 2 rechazada
+    @NotNull
+    @Min(0)
+    @Max(2)
+    private Integer estado;
+
+    private String curriculum;
+
+    @NotNull
+    private Integer idVacante;
+
+    @NotBlank
+    @Email
+    private String email;
+}
@@ -0,0 +1,33 @@
+package vacantes_api.modelo.dto;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.*;
+import vacantes_api.modelo.entity.Vacante.Estatus;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VacanteFiltroDTO {
+
+    private Estatus estatus;
+
+    private Boolean destacado;
+
+    private Integer idCategoria;
+
+    private Integer idEmpresa;
+
+    private Double salarioMin;
+
+    private Double salarioMax;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fechaDesde;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fechaHasta;
+}
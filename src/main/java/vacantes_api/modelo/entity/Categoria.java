@@ -3,6 +3,9 @@ package vacantes_api.modelo.entity;
 import java.io.Serializable;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,6 +14,8 @@ import lombok.*;
  * Cada categoría puede estar asociada a múltiples vacantes.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "categorias")
 @Table(name = "categorias")
 @Getter
 @Setter
@@ -3,6 +3,9 @@ package vacantes_api.modelo.entity;
 import java.io.Serializable;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -12,6 +15,8 @@ import lombok.*;
  * múltiples vacantes.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "empresas")
 @Table(name = "Empresas")
 @Data
 @NoArgsConstructor
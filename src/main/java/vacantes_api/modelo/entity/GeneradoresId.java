@@ -0,0 +1,37 @@
+package vacantes_api.modelo.entity;
+
+/**
+ * Configuración común de los generadores de IDs por bloques de
+ * {@link Vacante} y {@link Solicitud}.
+ * <p>
+ * Los IDs se asignan desde la tabla {@value #TABLA} (migración V3), con una
+ * fila por entidad, reservando bloques de {@value #BLOQUE} valores. Así
+ * Hibernate puede agrupar los INSERT en lotes JDBC: con IDENTITY necesita un
+ * INSERT por fila para conocer el ID. Cada reserva de bloque se hace en una
+ * transacción aislada con su propia conexión del pool.
+ */
+public final class GeneradoresId {
+
+    /**
+     * Tabla con el siguiente ID libre de cada entidad.
+     */
+    public static final String TABLA = "id_generadores";
+
+    /**
+     * Columna con el nombre de la entidad.
+     */
+    public static final String COLUMNA_ENTIDAD = "entidad";
+
+    /**
+     * Columna con el primer ID del próximo bloque.
+     */
+    public static final String COLUMNA_SIGUIENTE = "siguiente_id";
+
+    /**
+     * Número de IDs que se reservan en cada acceso a la tabla.
+     */
+    public static final int BLOQUE = 50;
+
+    private GeneradoresId() {
+    }
+}
@@ -22,13 +22,25 @@ public class Solicitud implements Serializable {
     private static final long serialVersionUID = 1L;
 
     /**
-     * Identificador único de la solicitud (clave primaria).
+     * Identificador único de la solicitud (clave primaria), asignado por bloques ({@link GeneradoresId}).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "solicitudes_id")
+    @TableGenerator(name = "solicitudes_id", table = GeneradoresId.TABLA, pkColumnName = GeneradoresId.COLUMNA_ENTIDAD,
+            valueColumnName = GeneradoresId.COLUMNA_SIGUIENTE, pkColumnValue = "solicitudes",
+            allocationSize = GeneradoresId.BLOQUE)
     @Column(name = "id_solicitud")
     private Integer idSolicitud;
 
+    /**
+     * Versión de la fila para el bloqueo optimista: Hibernate la incrementa en
+     * cada actualización y rechaza la escritura si otra transacción la ha
+     * modificado antes.
+     */
+    @Version
+    @Column(nullable = false)
+    private Integer version;
+
     /**
      * Fecha en la que se realiza la solicitud.
      */
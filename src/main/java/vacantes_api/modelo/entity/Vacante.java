@@ -11,9 +11,17 @@ import lombok.*;
  * Entidad que representa una vacante de empleo publicada por una empresa.
  * Cada vacante está asociada a una categoría y a una empresa, y puede recibir
  * múltiples solicitudes.
+ * <p>
+ * El grafo {@value #GRAFO_DETALLE} permite cargar en una única consulta la
+ * vacante junto con su categoría, empresa y usuario de la empresa, que son los
+ * datos necesarios para construir {@code VacanteResponseDTO}.
  */
 @Entity
 @Table(name = "Vacantes")
+@NamedEntityGraph(name = Vacante.GRAFO_DETALLE, attributeNodes = {
+        @NamedAttributeNode("categoria"),
+        @NamedAttributeNode(value = "empresa", subgraph = "empresa")
+}, subgraphs = @NamedSubgraph(name = "empresa", attributeNodes = @NamedAttributeNode("usuario")))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,13 +31,30 @@ public class Vacante implements Serializable {
     private static final long serialVersionUID = 1L;
 
     /**
-     * Identificador único de la vacante (clave primaria).
+     * Nombre del grafo de entidad que incluye categoría y empresa.
+     */
+    public static final String GRAFO_DETALLE = "Vacante.detalle";
+
+    /**
+     * Identificador único de la vacante (clave primaria), asignado por bloques ({@link GeneradoresId}).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "vacantes_id")
+    @TableGenerator(name = "vacantes_id", table = GeneradoresId.TABLA, pkColumnName = GeneradoresId.COLUMNA_ENTIDAD,
+            valueColumnName = GeneradoresId.COLUMNA_SIGUIENTE, pkColumnValue = "vacantes",
+            allocationSize = GeneradoresId.BLOQUE)
     @Column(name = "id_vacante")
     private Integer idVacante;
 
+    /**
+     * Versión de la fila para el bloqueo optimista: Hibernate la incrementa en
+     * cada actualización y rechaza la escritura si otra transacción la ha
+     * modificado antes.
+     */
+    @Version
+    @Column(nullable = false)
+    private Integer version;
+
     /**
      * Título o nombre de la vacante.
      */
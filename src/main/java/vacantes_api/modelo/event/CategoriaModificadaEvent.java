@@ -0,0 +1,17 @@
+package vacantes_api.modelo.event;
+
+import lombok.Value;
+
+/**
+ * Evento publicado al crear, modificar o eliminar una categoría, para
+ * invalidar la información cacheada sobre ella una vez confirmada la
+ * transacción.
+ */
+@Value
+public class CategoriaModificadaEvent {
+
+    /**
+     * ID de la categoría creada, modificada o eliminada.
+     */
+    Integer idCategoria;
+}
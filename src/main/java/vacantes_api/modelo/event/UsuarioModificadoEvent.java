@@ -0,0 +1,17 @@
+package vacantes_api.modelo.event;
+
+import lombok.Value;
+
+/**
+ * Evento publicado cuando cambian los datos de un usuario que afectan a su
+ * autenticación o a la información cacheada sobre él (contraseña, rol,
+ * estado, empresa asociada o eliminación).
+ */
+@Value
+public class UsuarioModificadoEvent {
+
+    /**
+     * Email del usuario modificado.
+     */
+    String email;
+}
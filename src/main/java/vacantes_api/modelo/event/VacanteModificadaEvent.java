@@ -0,0 +1,63 @@
+package vacantes_api.modelo.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Evento publicado cuando cambia cualquier dato que forma parte de las
+ * respuestas públicas de vacantes: la propia vacante o la categoría y empresa
+ * que se muestran junto a ella.
+ * <p>
+ * Solo uno de los identificadores tiene valor e indica qué vacantes se ven
+ * afectadas: una concreta, las de una categoría o las de una empresa.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class VacanteModificadaEvent {
+
+    /**
+     * ID de la vacante modificada.
+     */
+    Integer idVacante;
+
+    /**
+     * ID de la categoría modificada, cuyo nombre aparece en sus vacantes.
+     */
+    Integer idCategoria;
+
+    /**
+     * ID de la empresa modificada o con vacantes importadas.
+     */
+    Integer idEmpresa;
+
+    /**
+     * Crea el evento para una vacante concreta.
+     *
+     * @param idVacante ID de la vacante.
+     * @return evento.
+     */
+    public static VacanteModificadaEvent deVacante(Integer idVacante) {
+        return new VacanteModificadaEvent(idVacante, null, null);
+    }
+
+    /**
+     * Crea el evento para las vacantes de una categoría.
+     *
+     * @param idCategoria ID de la categoría.
+     * @return evento.
+     */
+    public static VacanteModificadaEvent deCategoria(Integer idCategoria) {
+        return new VacanteModificadaEvent(null, idCategoria, null);
+    }
+
+    /**
+     * Crea el evento para las vacantes de una empresa.
+     *
+     * @param idEmpresa ID de la empresa.
+     * @return evento.
+     */
+    public static VacanteModificadaEvent deEmpresa(Integer idEmpresa) {
+        return new VacanteModificadaEvent(null, null, idEmpresa);
+    }
+}
@@ -0,0 +1,32 @@
+package vacantes_api.modelo.mapper;
+
+import org.springframework.stereotype.Component;
+
+import vacantes_api.modelo.dto.CategoriaResponseDTO;
+import vacantes_api.modelo.entity.Categoria;
+
+/**
+ * Mapeador de {@link Categoria} a {@link CategoriaResponseDTO}.
+ */
+@Component
+public class CategoriaMapper {
+
+    /**
+     * Convierte una categoría en su DTO de respuesta.
+     *
+     * @param categoria categoría a convertir.
+     * @return DTO con los datos de la categoría, o {@code null} si la categoría
+     *         es {@code null}.
+     */
+    public CategoriaResponseDTO toDTO(Categoria categoria) {
+        if (categoria == null) {
+            return null;
+        }
+
+        return CategoriaResponseDTO.builder()
+                .idCategoria(categoria.getIdCategoria())
+                .nombre(categoria.getNombre())
+                .descripcion(categoria.getDescripcion())
+                .build();
+    }
+}
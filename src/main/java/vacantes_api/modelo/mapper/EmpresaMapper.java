@@ -0,0 +1,71 @@
+package vacantes_api.modelo.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import vacantes_api.modelo.dto.EmpresaResponseDTO;
+import vacantes_api.modelo.entity.Empresa;
+import vacantes_api.modelo.entity.Usuario;
+
+/**
+ * Mapeador de {@link Empresa} a {@link EmpresaResponseDTO}.
+ * <p>
+ * No recorre la colección {@code vacantes} de la empresa: cada endpoint decide
+ * de dónde obtenerlas y las asigna con
+ * {@link EmpresaResponseDTO#setVacantes(List)}, evitando cargas perezosas
+ * implícitas.
+ */
+@Component
+public class EmpresaMapper {
+
+    /**
+     * Convierte una empresa en su DTO de respuesta, con los datos de su usuario
+     * asociado.
+     *
+     * @param empresa empresa a convertir.
+     * @return DTO con los datos de la empresa, o {@code null} si la empresa es
+     *         {@code null}.
+     */
+    public EmpresaResponseDTO toDTO(Empresa empresa) {
+        if (empresa == null) {
+            return null;
+        }
+
+        EmpresaResponseDTO dto = EmpresaResponseDTO.builder()
+                .idEmpresa(empresa.getIdEmpresa())
+                .cif(empresa.getCif())
+                .nombreEmpresa(empresa.getNombreEmpresa())
+                .direccionFiscal(empresa.getDireccionFiscal())
+                .pais(empresa.getPais())
+                .build();
+
+        Usuario usuario = empresa.getUsuario();
+        if (usuario != null) {
+            dto.setEmail(usuario.getEmail());
+            dto.setNombre(usuario.getNombre());
+            dto.setApellidos(usuario.getApellidos());
+        }
+        return dto;
+    }
+
+    /**
+     * Convierte una lista de empresas en sus DTOs de respuesta.
+     *
+     * @param empresas empresas a convertir (puede ser {@code null}).
+     * @return lista de DTOs en el mismo orden; vacía si la entrada es
+     *         {@code null}.
+     */
+    public List<EmpresaResponseDTO> toDTOList(List<Empresa> empresas) {
+        if (empresas == null) {
+            return new ArrayList<>();
+        }
+
+        List<EmpresaResponseDTO> dtos = new ArrayList<>(empresas.size());
+        for (Empresa empresa : empresas) {
+            dtos.add(toDTO(empresa));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,86 @@
+package vacantes_api.modelo.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import vacantes_api.modelo.dto.SolicitudResponseDTO;
+import vacantes_api.modelo.entity.Solicitud;
+import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.entity.Vacante;
+
+/**
+ * Mapeador de {@link Solicitud} a {@link SolicitudResponseDTO}, incluyendo los
+ * datos de la vacante y del usuario solicitante.
+ */
+@Component
+public class SolicitudMapper {
+
+    /**
+     * Convierte una solicitud en su DTO de respuesta.
+     *
+     * @param solicitud solicitud a convertir.
+     * @return DTO con los datos de la solicitud, o {@code null} si la solicitud
+     *         es {@code null}.
+     */
+    public SolicitudResponseDTO toDTO(Solicitud solicitud) {
+        if (solicitud == null) {
+            return null;
+        }
+
+        SolicitudResponseDTO dto = SolicitudResponseDTO.builder()
+                .idSolicitud(solicitud.getIdSolicitud())
+                .fecha(solicitud.getFecha())
+                .archivo(solicitud.getArchivo())
+                .curriculum(solicitud.getCurriculum())
+                .comentarios(solicitud.getComentarios())
+                .estado(solicitud.getEstado())
+                .build();
+
+        Vacante vacante = solicitud.getVacante();
+        if (vacante != null) {
+            dto.setIdVacante(vacante.getIdVacante());
+            dto.setNombreVacante(vacante.getNombre());
+            dto.setDescripcionVacante(vacante.getDescripcion());
+            if (vacante.getSalario() != null) {
+                dto.setSalarioVacante(vacante.getSalario());
+            }
+            dto.setDetalleVacante(vacante.getDetalles());
+            dto.setImagenVacante(vacante.getImagen());
+            if (vacante.getEmpresa() != null) {
+                dto.setNombreEmpresa(vacante.getEmpresa().getNombreEmpresa());
+            }
+            if (vacante.getCategoria() != null) {
+                dto.setCategoriaVacante(vacante.getCategoria().getNombre());
+            }
+        }
+
+        Usuario usuario = solicitud.getUsuario();
+        if (usuario != null) {
+            dto.setEmailUsuario(usuario.getEmail());
+            dto.setNombreUsuario(usuario.getNombre());
+            dto.setApellidosUsuario(usuario.getApellidos());
+        }
+        return dto;
+    }
+
+    /**
+     * Convierte una lista de solicitudes en sus DTOs de respuesta.
+     *
+     * @param solicitudes solicitudes a convertir (puede ser {@code null}).
+     * @return lista de DTOs en el mismo orden; vacía si la entrada es
+     *         {@code null}.
+     */
+    public List<SolicitudResponseDTO> toDTOList(List<Solicitud> solicitudes) {
+        if (solicitudes == null) {
+            return new ArrayList<>();
+        }
+
+        List<SolicitudResponseDTO> dtos = new ArrayList<>(solicitudes.size());
+        for (Solicitud solicitud : solicitudes) {
+            dtos.add(toDTO(solicitud));
+        }
+        return dtos;
+    }
+}
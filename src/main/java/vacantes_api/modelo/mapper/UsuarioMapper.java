@@ -0,0 +1,84 @@
+package vacantes_api.modelo.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import vacantes_api.modelo.dto.LoginResponseDTO;
+import vacantes_api.modelo.dto.UsuarioResponseDTO;
+import vacantes_api.modelo.entity.Empresa;
+import vacantes_api.modelo.entity.Usuario;
+
+/**
+ * Mapeador de {@link Usuario} a {@link UsuarioResponseDTO} y
+ * {@link LoginResponseDTO}. Los datos de empresa solo se rellenan si el
+ * usuario tiene una empresa asociada.
+ */
+@Component
+public class UsuarioMapper {
+
+    /**
+     * Convierte un usuario en su DTO de respuesta.
+     *
+     * @param usuario usuario a convertir.
+     * @return DTO con los datos del usuario, o {@code null} si el usuario es
+     *         {@code null}.
+     */
+    public UsuarioResponseDTO toDTO(Usuario usuario) {
+        if (usuario == null) {
+            return null;
+        }
+
+        UsuarioResponseDTO dto = UsuarioResponseDTO.builder()
+                .email(usuario.getEmail())
+                .nombre(usuario.getNombre())
+                .apellidos(usuario.getApellidos())
+                .rol(usuario.getRol())
+                .enabled(usuario.getEnabled())
+                .fechaRegistro(usuario.getFechaRegistro())
+                .build();
+
+        Empresa empresa = usuario.getEmpresa();
+        if (empresa != null) {
+            dto.setNombreEmpresa(empresa.getNombreEmpresa());
+            dto.setCifEmpresa(empresa.getCif());
+            dto.setDireccionFiscal(empresa.getDireccionFiscal());
+            dto.setPaisEmpresa(empresa.getPais());
+        }
+        return dto;
+    }
+
+    /**
+     * Convierte una lista de usuarios en sus DTOs de respuesta.
+     *
+     * @param usuarios usuarios a convertir (puede ser {@code null}).
+     * @return lista de DTOs en el mismo orden; vacía si la entrada es
+     *         {@code null}.
+     */
+    public List<UsuarioResponseDTO> toDTOList(List<Usuario> usuarios) {
+        if (usuarios == null) {
+            return new ArrayList<>();
+        }
+
+        List<UsuarioResponseDTO> dtos = new ArrayList<>(usuarios.size());
+        for (Usuario usuario : usuarios) {
+            dtos.add(toDTO(usuario));
+        }
+        return dtos;
+    }
+
+    /**
+     * Convierte un usuario en la respuesta de login/registro.
+     *
+     * @param usuario usuario autenticado.
+     * @return DTO con email, nombre y rol del usuario.
+     */
+    public LoginResponseDTO toLoginDTO(Usuario usuario) {
+        return LoginResponseDTO.builder()
+                .email(usuario.getEmail())
+                .nombre(usuario.getNombre())
+                .rol(usuario.getRol())
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package vacantes_api.modelo.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import vacantes_api.modelo.dto.VacanteResponseDTO;
+import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.entity.Empresa;
+import vacantes_api.modelo.entity.Vacante;
+
+/**
+ * Mapeador de {@link Vacante} a {@link VacanteResponseDTO}.
+ * Equivale al {@code PropertyMap} definido en
+ * {@link vacantes_api.config.ModelMapperConfig}, pero con accesos directos a
+ * getters y setters en lugar de reflexión.
+ */
+@Component
+public class VacanteMapper {
+
+    /**
+     * Convierte una vacante en su DTO de respuesta.
+     *
+     * @param vacante vacante a convertir.
+     * @return DTO con los datos de la vacante, o {@code null} si la vacante es
+     *         {@code null}.
+     */
+    public VacanteResponseDTO toDTO(Vacante vacante) {
+        if (vacante == null) {
+            return null;
+        }
+
+        VacanteResponseDTO dto = VacanteResponseDTO.builder()
+                .idVacante(vacante.getIdVacante())
+                .nombre(vacante.getNombre())
+                .descripcion(vacante.getDescripcion())
+                .fecha(vacante.getFecha())
+                .salario(vacante.getSalario())
+                .estatus(vacante.getEstatus())
+                .destacado(vacante.getDestacado())
+                .imagen(vacante.getImagen())
+                .detalles(vacante.getDetalles())
+                .build();
+
+        Categoria categoria = vacante.getCategoria();
+        if (categoria != null) {
+            dto.setIdCategoria(categoria.getIdCategoria());
+            dto.setNombreCategoria(categoria.getNombre());
+        }
+
+        Empresa empresa = vacante.getEmpresa();
+        if (empresa != null) {
+            dto.setIdEmpresa(empresa.getIdEmpresa());
+            dto.setNombreEmpresa(empresa.getNombreEmpresa());
+            dto.setPais(empresa.getPais());
+        }
+        return dto;
+    }
+
+    /**
+     * Convierte una lista de vacantes en sus DTOs de respuesta.
+     *
+     * @param vacantes vacantes a convertir (puede ser {@code null}).
+     * @return lista de DTOs en el mismo orden; vacía si la entrada es
+     *         {@code null}.
+     */
+    public List<VacanteResponseDTO> toDTOList(List<Vacante> vacantes) {
+        if (vacantes == null) {
+            return new ArrayList<>();
+        }
+
+        List<VacanteResponseDTO> dtos = new ArrayList<>(vacantes.size());
+        for (Vacante vacante : vacantes) {
+            dtos.add(toDTO(vacante));
+        }
+        return dtos;
+    }
+}
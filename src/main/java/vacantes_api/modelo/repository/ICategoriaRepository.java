@@ -1,9 +1,15 @@
 package vacantes_api.modelo.repository;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+import vacantes_api.modelo.dto.CategoriaResponseDTO;
 import vacantes_api.modelo.entity.Categoria;
 
 /**
@@ -13,6 +19,24 @@ import vacantes_api.modelo.entity.Categoria;
  */
 public interface ICategoriaRepository extends JpaRepository<Categoria, Integer> {
 
+    /**
+     * Consulta base de las proyecciones a {@link CategoriaResponseDTO}.
+     */
+    String SELECT_DTO = "SELECT new vacantes_api.modelo.dto.CategoriaResponseDTO("
+            + "c.idCategoria, c.nombre, c.descripcion) FROM Categoria c ";
+
+    /**
+     * Recupera todas las categorías. El resultado se guarda en la caché de
+     * consultas de Hibernate y las entidades en la caché de segundo nivel, de
+     * modo que las llamadas siguientes no consultan la base de datos hasta que
+     * se modifica la tabla.
+     *
+     * @return lista de todas las categorías.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    List<Categoria> findAll();
+
     /**
      * Busca categorías cuyo nombre contenga la cadena indicada, ignorando
      * mayúsculas y minúsculas.
@@ -22,4 +46,33 @@ public interface ICategoriaRepository extends JpaRepository<Categoria, Integer>
      */
     List<Categoria> findByNombreContainingIgnoreCase(String nombre);
 
+    /**
+     * Recupera todas las categorías proyectadas sobre
+     * {@link CategoriaResponseDTO}.
+     *
+     * @return lista de categorías en formato DTO.
+     */
+    @Query(SELECT_DTO)
+    List<CategoriaResponseDTO> findAllDTO();
+
+    /**
+     * Recupera una categoría por su ID proyectada sobre
+     * {@link CategoriaResponseDTO}.
+     *
+     * @param idCategoria identificador de la categoría.
+     * @return la categoría en formato DTO si existe.
+     */
+    @Query(SELECT_DTO + "WHERE c.idCategoria = :idCategoria")
+    Optional<CategoriaResponseDTO> findDTOById(@Param("idCategoria") Integer idCategoria);
+
+    /**
+     * Busca categorías cuyo nombre contenga la cadena indicada (insensible a
+     * mayúsculas), proyectadas sobre {@link CategoriaResponseDTO}.
+     *
+     * @param nombre parte del nombre a buscar.
+     * @return lista de categorías coincidentes en formato DTO.
+     */
+    @Query(SELECT_DTO + "WHERE LOWER(c.nombre) LIKE LOWER(CONCAT('%', :nombre, '%'))")
+    List<CategoriaResponseDTO> findDTOByNombre(@Param("nombre") String nombre);
+
 }
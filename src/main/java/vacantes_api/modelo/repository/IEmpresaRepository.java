@@ -2,8 +2,13 @@ package vacantes_api.modelo.repository;
 
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import vacantes_api.modelo.dto.EmpresaActualDTO;
 import vacantes_api.modelo.entity.Empresa;
 
 /**
@@ -13,10 +18,37 @@ import vacantes_api.modelo.entity.Empresa;
 public interface IEmpresaRepository extends JpaRepository<Empresa, Integer> {
 
     /**
-     * Busca una empresa por el email del usuario asociado.
+     * Busca una empresa por el email del usuario asociado. Se compara la
+     * columna {@code email} de la propia empresa (índice único) en lugar de
+     * hacer JOIN con usuarios.
      *
      * @param email email del usuario vinculado a la empresa.
      * @return una {@code Optional<Empresa>} si existe una coincidencia.
      */
-    Optional<Empresa> findByUsuarioEmail(String email);
+    @Query("SELECT e FROM Empresa e WHERE e.usuario.email = :email")
+    Optional<Empresa> findByUsuarioEmail(@Param("email") String email);
+
+    /**
+     * Recupera el identificador de la empresa de un usuario junto con su rol y
+     * estado, sin cargar entidades.
+     *
+     * @param email email del usuario vinculado a la empresa.
+     * @return datos de la empresa del usuario, si existe.
+     */
+    @Query("SELECT new vacantes_api.modelo.dto.EmpresaActualDTO(u.email, e.idEmpresa, u.rol, u.enabled) "
+            + "FROM Empresa e JOIN e.usuario u WHERE u.email = :email")
+    Optional<EmpresaActualDTO> findEmpresaActualByEmail(@Param("email") String email);
+
+    /**
+     * Recupera una página de empresas cuyo usuario tiene el estado indicado.
+     * El filtro se aplica en SQL y el usuario se obtiene con JOIN en la misma
+     * sentencia.
+     *
+     * @param enabled  estado del usuario (1 = activo, 0 = inactivo).
+     * @param pageable página y ordenación solicitadas.
+     * @return página de empresas con ese estado.
+     */
+    @Query(value = "SELECT e FROM Empresa e JOIN FETCH e.usuario u WHERE u.enabled = :enabled",
+            countQuery = "SELECT COUNT(e) FROM Empresa e JOIN e.usuario u WHERE u.enabled = :enabled")
+    Page<Empresa> findByUsuarioEnabled(@Param("enabled") Integer enabled, Pageable pageable);
 }
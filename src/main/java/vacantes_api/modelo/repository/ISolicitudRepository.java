@@ -2,13 +2,19 @@ package vacantes_api.modelo.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
 import jakarta.transaction.Transactional;
+import vacantes_api.modelo.dto.SolicitudResponseDTO;
 import vacantes_api.modelo.entity.Solicitud;
 import vacantes_api.modelo.entity.Usuario;
 import vacantes_api.modelo.entity.Vacante;
@@ -20,6 +26,17 @@ import vacantes_api.modelo.entity.Vacante;
  */
 public interface ISolicitudRepository extends JpaRepository<Solicitud, Integer> {
 
+    /**
+     * Consulta base de las proyecciones a {@link SolicitudResponseDTO}: obtiene
+     * en una sola sentencia los datos de la solicitud, la vacante, su empresa y
+     * categoría, y el usuario solicitante.
+     */
+    String SELECT_DTO = "SELECT new vacantes_api.modelo.dto.SolicitudResponseDTO("
+            + "s.idSolicitud, s.fecha, s.archivo, s.curriculum, s.comentarios, s.estado, "
+            + "v.idVacante, v.nombre, v.descripcion, v.salario, v.detalles, v.imagen, "
+            + "e.nombreEmpresa, c.nombre, u.email, u.nombre, u.apellidos) "
+            + "FROM Solicitud s JOIN s.vacante v JOIN v.empresa e JOIN v.categoria c JOIN s.usuario u ";
+
     /**
      * Busca una solicitud concreta asociada a una vacante y un usuario.
      *
@@ -45,6 +62,52 @@ public interface ISolicitudRepository extends JpaRepository<Solicitud, Integer>
      */
     List<Solicitud> findByVacante(Vacante vacante);
 
+    /**
+     * Recupera una solicitud por su ID proyectada sobre
+     * {@link SolicitudResponseDTO}.
+     *
+     * @param idSolicitud ID de la solicitud.
+     * @return la solicitud en formato DTO si existe.
+     */
+    @Query(SELECT_DTO + "WHERE s.idSolicitud = :idSolicitud")
+    Optional<SolicitudResponseDTO> findDTOById(@Param("idSolicitud") Integer idSolicitud);
+
+    /**
+     * Devuelve las solicitudes de un usuario proyectadas sobre
+     * {@link SolicitudResponseDTO}.
+     *
+     * @param email correo del usuario.
+     * @return lista de solicitudes en formato DTO.
+     */
+    @Query(SELECT_DTO + "WHERE u.email = :email")
+    List<SolicitudResponseDTO> findDTOByUsuarioEmail(@Param("email") String email);
+
+    /**
+     * Devuelve las solicitudes de una vacante proyectadas sobre
+     * {@link SolicitudResponseDTO}.
+     *
+     * @param idVacante ID de la vacante.
+     * @return lista de solicitudes en formato DTO.
+     */
+    @Query(SELECT_DTO + "WHERE v.idVacante = :idVacante")
+    List<SolicitudResponseDTO> findDTOByVacanteId(@Param("idVacante") Integer idVacante);
+
+    /**
+     * Recorre las solicitudes de una vacante con un cursor de solo avance
+     * ({@code ScrollableResults}), leyendo las filas en bloques de 500 sin
+     * cargarlas todas en memoria. El stream debe consumirse y cerrarse dentro
+     * de una transacción.
+     *
+     * @param idVacante ID de la vacante.
+     * @return stream de solicitudes en formato DTO ordenadas por ID.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_DTO + "WHERE v.idVacante = :idVacante ORDER BY s.idSolicitud")
+    Stream<SolicitudResponseDTO> streamDTOByVacanteId(@Param("idVacante") Integer idVacante);
+
     /**
      * Elimina todas las solicitudes asociadas a una vacante.
      *
@@ -56,16 +119,67 @@ public interface ISolicitudRepository extends JpaRepository<Solicitud, Integer>
     void deleteByVacanteId(Integer vacanteId);
 
     /**
-     * Rechaza todas las solicitudes de una vacante excepto la seleccionada.
+     * Obtiene el ID de la vacante de una solicitud sin cargar la entidad.
+     *
+     * @param idSolicitud ID de la solicitud.
+     * @return ID de la vacante si la solicitud existe.
+     */
+    @Query("SELECT s.vacante.idVacante FROM Solicitud s WHERE s.idSolicitud = :idSolicitud")
+    Optional<Integer> findIdVacanteById(@Param("idSolicitud") Integer idSolicitud);
+
+    /**
+     * Comprueba si una solicitud pertenece a una vacante de la empresa del
+     * usuario indicado. Se compara la columna {@code email} de la empresa, sin
+     * cargar entidades ni hacer JOIN con usuarios.
+     *
+     * @param idSolicitud ID de la solicitud.
+     * @param email       email del usuario de la empresa.
+     * @return {@code true} si la solicitud existe y es de una vacante de esa
+     *         empresa.
+     */
+    @Query("SELECT COUNT(s) > 0 FROM Solicitud s JOIN s.vacante v JOIN v.empresa e "
+            + "WHERE s.idSolicitud = :idSolicitud AND e.usuario.email = :email")
+    boolean existsByIdAndEmpresaEmail(@Param("idSolicitud") Integer idSolicitud, @Param("email") String email);
+
+    /**
+     * Adjudica la solicitud seleccionada (estado = 1) y rechaza las demás
+     * solicitudes de la vacante (estado = 2) en una única sentencia,
+     * incrementando su versión.
      *
      * @param vacanteId      ID de la vacante.
      * @param seleccionadaId ID de la solicitud adjudicada.
+     * @return número de solicitudes actualizadas.
      */
     @Modifying
-    @Transactional
-    @Query("UPDATE Solicitud s SET s.estado = 2 WHERE s.vacante.idVacante = :vacanteId AND s.idSolicitud <> :seleccionadaId")
-    void rejectOthers(@Param("vacanteId") Integer vacanteId,
-            @Param("seleccionadaId") Integer seleccionadaId);
+    @Query("UPDATE Solicitud s SET s.estado = CASE WHEN s.idSolicitud = :seleccionadaId THEN 1 ELSE 2 END, "
+            + "s.version = s.version + 1 WHERE s.vacante.idVacante = :vacanteId")
+    int adjudicar(@Param("vacanteId") Integer vacanteId, @Param("seleccionadaId") Integer seleccionadaId);
+
+    /**
+     * Deshace una adjudicación en una única sentencia: la solicitud indicada
+     * pasa a rechazada (estado = 2) y las demás de la vacante a pendientes
+     * (estado = 0).
+     *
+     * @param vacanteId   ID de la vacante.
+     * @param rechazadaId ID de la solicitud adjudicada que se rechaza.
+     * @return número de solicitudes actualizadas.
+     */
+    @Modifying
+    @Query("UPDATE Solicitud s SET s.estado = CASE WHEN s.idSolicitud = :rechazadaId THEN 2 ELSE 0 END, "
+            + "s.version = s.version + 1 WHERE s.vacante.idVacante = :vacanteId")
+    int deshacerAdjudicacion(@Param("vacanteId") Integer vacanteId, @Param("rechazadaId") Integer rechazadaId);
+
+    /**
+     * Rechaza (estado = 2) una solicitud pendiente de la vacante indicada.
+     *
+     * @param vacanteId   ID de la vacante.
+     * @param solicitudId ID de la solicitud.
+     * @return 1 si se ha rechazado, 0 si no existe o no estaba pendiente.
+     */
+    @Modifying
+    @Query("UPDATE Solicitud s SET s.estado = 2, s.version = s.version + 1 "
+            + "WHERE s.idSolicitud = :solicitudId AND s.vacante.idVacante = :vacanteId AND s.estado = 0")
+    int rechazarPendiente(@Param("vacanteId") Integer vacanteId, @Param("solicitudId") Integer solicitudId);
 
     /**
      * Reinicia el estado de todas las solicitudes de una vacante a estado = 0
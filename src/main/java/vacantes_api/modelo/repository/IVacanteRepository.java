@@ -1,17 +1,79 @@
 package vacantes_api.modelo.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import vacantes_api.modelo.dto.VacanteResponseDTO;
 import vacantes_api.modelo.entity.Vacante;
 
 /**
  * Repositorio JPA para la entidad {@link Vacante}.
  * Permite realizar operaciones CRUD y consultas personalizadas sobre vacantes
  * de empleo.
+ * <p>
+ * Todas las consultas de lectura aplican el grafo
+ * {@link Vacante#GRAFO_DETALLE}, de forma que categoría, empresa y usuario de
+ * la empresa se obtienen con JOIN en la misma sentencia en lugar de lanzar una
+ * SELECT adicional por cada vacante (problema N+1).
+ * <p>
+ * Los listados de solo lectura usan además proyecciones {@code findDTO*} que
+ * devuelven directamente {@link VacanteResponseDTO}.
  */
-public interface IVacanteRepository extends JpaRepository<Vacante, Integer> {
+public interface IVacanteRepository extends JpaRepository<Vacante, Integer>, JpaSpecificationExecutor<Vacante> {
+
+    /**
+     * Consulta base de las proyecciones a {@link VacanteResponseDTO}: selecciona
+     * solo las columnas del DTO mediante una expresión constructora, sin
+     * cargar entidades gestionadas en el contexto de persistencia.
+     */
+    String SELECT_DTO = "SELECT new vacantes_api.modelo.dto.VacanteResponseDTO("
+            + "v.idVacante, v.nombre, v.descripcion, v.fecha, v.salario, v.estatus, v.destacado, "
+            + "v.imagen, v.detalles, c.idCategoria, c.nombre, e.idEmpresa, e.nombreEmpresa, e.pais) "
+            + "FROM Vacante v JOIN v.categoria c JOIN v.empresa e ";
+
+    /**
+     * Recupera todas las vacantes con su categoría y empresa.
+     *
+     * @return lista de todas las vacantes.
+     */
+    @Override
+    @EntityGraph(Vacante.GRAFO_DETALLE)
+    List<Vacante> findAll();
+
+    /**
+     * Recupera una vacante por su ID junto con su categoría y empresa.
+     *
+     * @param id identificador de la vacante.
+     * @return la vacante si existe.
+     */
+    @Override
+    @EntityGraph(Vacante.GRAFO_DETALLE)
+    Optional<Vacante> findById(Integer id);
+
+    /**
+     * Recupera una página de vacantes que cumplen la especificación, con su
+     * categoría y empresa.
+     *
+     * @param spec     criterios de búsqueda (ver {@link VacanteSpecifications}).
+     * @param pageable página y ordenación.
+     * @return página de vacantes.
+     */
+    @Override
+    @EntityGraph(Vacante.GRAFO_DETALLE)
+    Page<Vacante> findAll(Specification<Vacante> spec, Pageable pageable);
 
     /**
      * Busca vacantes cuyo nombre contenga una cadena específica (ignorando
@@ -20,15 +82,20 @@ public interface IVacanteRepository extends JpaRepository<Vacante, Integer> {
      * @param nombre nombre parcial a buscar.
      * @return lista de vacantes coincidentes.
      */
+    @EntityGraph(Vacante.GRAFO_DETALLE)
     List<Vacante> findByNombreContainingIgnoreCase(String nombre);
 
     /**
-     * Busca vacantes por ID de categoría.
+     * Busca vacantes por ID de categoría. Se filtra por la clave ajena de la
+     * vacante; la consulta derivada añadía un JOIN extra a categorías que
+     * impedía usar el índice.
      *
      * @param idCategoria identificador de la categoría.
      * @return lista de vacantes asociadas a dicha categoría.
      */
-    List<Vacante> findByCategoriaIdCategoria(Integer idCategoria);
+    @EntityGraph(Vacante.GRAFO_DETALLE)
+    @Query("SELECT v FROM Vacante v WHERE v.categoria.idCategoria = :idCategoria")
+    List<Vacante> findByCategoriaIdCategoria(@Param("idCategoria") Integer idCategoria);
 
     /**
      * Busca vacantes por nombre de la categoría (coincidencia parcial e insensible
@@ -37,6 +104,7 @@ public interface IVacanteRepository extends JpaRepository<Vacante, Integer> {
      * @param nombre nombre de la categoría.
      * @return lista de vacantes cuya categoría coincida.
      */
+    @EntityGraph(Vacante.GRAFO_DETALLE)
     List<Vacante> findByCategoriaNombreContainingIgnoreCase(String nombre);
 
     /**
@@ -46,16 +114,189 @@ public interface IVacanteRepository extends JpaRepository<Vacante, Integer> {
      * @param nombreEmpresa nombre parcial de la empresa.
      * @return lista de vacantes publicadas por empresas coincidentes.
      */
+    @EntityGraph(Vacante.GRAFO_DETALLE)
     List<Vacante> findByEmpresaNombreEmpresaContainingIgnoreCase(String nombreEmpresa);
 
+    /**
+     * Busca las vacantes publicadas por una empresa, filtrando por la clave
+     * ajena de la vacante.
+     *
+     * @param idEmpresa identificador de la empresa.
+     * @return lista de vacantes de la empresa.
+     */
+    @EntityGraph(Vacante.GRAFO_DETALLE)
+    @Query("SELECT v FROM Vacante v WHERE v.empresa.idEmpresa = :idEmpresa")
+    List<Vacante> findByEmpresaIdEmpresa(@Param("idEmpresa") Integer idEmpresa);
+
     /**
      * Busca vacantes cuyo salario sea mayor o igual al indicado.
      *
      * @param salario salario mínimo a considerar.
      * @return lista de vacantes que cumplen con la condición.
      */
+    @EntityGraph(Vacante.GRAFO_DETALLE)
     List<Vacante> findBySalarioGreaterThanEqual(Double salario);
 
+    /**
+     * Recupera todas las vacantes proyectadas directamente sobre
+     * {@link VacanteResponseDTO}.
+     *
+     * @return lista de vacantes en formato DTO.
+     */
+    @Query(SELECT_DTO)
+    List<VacanteResponseDTO> findAllDTO();
+
+    /**
+     * Recupera una vacante por su ID proyectada sobre {@link VacanteResponseDTO}.
+     *
+     * @param idVacante identificador de la vacante.
+     * @return la vacante en formato DTO si existe.
+     */
+    @Query(SELECT_DTO + "WHERE v.idVacante = :idVacante")
+    Optional<VacanteResponseDTO> findDTOById(@Param("idVacante") Integer idVacante);
+
+    /**
+     * Comprueba si una vacante pertenece a la empresa del usuario indicado. Se
+     * compara la columna {@code email} de la empresa, sin cargar entidades ni
+     * hacer JOIN con usuarios.
+     *
+     * @param idVacante identificador de la vacante.
+     * @param email     email del usuario de la empresa.
+     * @return {@code true} si la vacante existe y es de esa empresa.
+     */
+    @Query("SELECT COUNT(v) > 0 FROM Vacante v JOIN v.empresa e "
+            + "WHERE v.idVacante = :idVacante AND e.usuario.email = :email")
+    boolean existsByIdAndEmpresaEmail(@Param("idVacante") Integer idVacante, @Param("email") String email);
+
+    /**
+     * Busca vacantes cuyo nombre contenga la cadena indicada (insensible a
+     * mayúsculas), proyectadas sobre {@link VacanteResponseDTO}.
+     *
+     * @param nombre nombre parcial a buscar.
+     * @return lista de vacantes coincidentes en formato DTO.
+     */
+    @Query(SELECT_DTO + "WHERE LOWER(v.nombre) LIKE LOWER(CONCAT('%', :nombre, '%'))")
+    List<VacanteResponseDTO> findDTOByNombre(@Param("nombre") String nombre);
+
+    /**
+     * Busca vacantes por nombre parcial de la categoría, proyectadas sobre
+     * {@link VacanteResponseDTO}.
+     *
+     * @param nombre nombre de la categoría.
+     * @return lista de vacantes coincidentes en formato DTO.
+     */
+    @Query(SELECT_DTO + "WHERE LOWER(c.nombre) LIKE LOWER(CONCAT('%', :nombre, '%'))")
+    List<VacanteResponseDTO> findDTOByCategoriaNombre(@Param("nombre") String nombre);
+
+    /**
+     * Busca vacantes por nombre parcial de la empresa, proyectadas sobre
+     * {@link VacanteResponseDTO}.
+     *
+     * @param nombreEmpresa nombre parcial de la empresa.
+     * @return lista de vacantes coincidentes en formato DTO.
+     */
+    @Query(SELECT_DTO + "WHERE LOWER(e.nombreEmpresa) LIKE LOWER(CONCAT('%', :nombreEmpresa, '%'))")
+    List<VacanteResponseDTO> findDTOByEmpresaNombreEmpresa(@Param("nombreEmpresa") String nombreEmpresa);
+
+    /**
+     * Busca las vacantes de una empresa proyectadas sobre
+     * {@link VacanteResponseDTO}.
+     *
+     * @param idEmpresa identificador de la empresa.
+     * @return lista de vacantes de la empresa en formato DTO.
+     */
+    @Query(SELECT_DTO + "WHERE e.idEmpresa = :idEmpresa")
+    List<VacanteResponseDTO> findDTOByEmpresaId(@Param("idEmpresa") Integer idEmpresa);
+
+    /**
+     * Busca en una sola consulta las vacantes de varias empresas, proyectadas
+     * sobre {@link VacanteResponseDTO} y ordenadas por empresa e ID.
+     *
+     * @param idsEmpresa identificadores de las empresas.
+     * @return vacantes de esas empresas en formato DTO.
+     */
+    @Query(SELECT_DTO + "WHERE e.idEmpresa IN :idsEmpresa ORDER BY e.idEmpresa, v.idVacante")
+    List<VacanteResponseDTO> findDTOByEmpresaIdIn(@Param("idsEmpresa") Collection<Integer> idsEmpresa);
+
+    /**
+     * Busca vacantes con salario mayor o igual al indicado, proyectadas sobre
+     * {@link VacanteResponseDTO}.
+     *
+     * @param salario salario mínimo.
+     * @return lista de vacantes coincidentes en formato DTO.
+     */
+    @Query(SELECT_DTO + "WHERE v.salario >= :salario")
+    List<VacanteResponseDTO> findDTOBySalario(@Param("salario") Double salario);
+
+    /**
+     * Recupera las vacantes con los IDs indicados proyectadas sobre
+     * {@link VacanteResponseDTO}, sin orden garantizado.
+     *
+     * @param ids identificadores de las vacantes.
+     * @return vacantes encontradas en formato DTO.
+     */
+    @Query(SELECT_DTO + "WHERE v.idVacante IN :ids")
+    List<VacanteResponseDTO> findDTOByIdIn(@Param("ids") List<Integer> ids);
+
+    /**
+     * Devuelve la primera página del listado de vacantes ordenado de la más
+     * reciente a la más antigua (fecha e ID descendentes).
+     *
+     * @param limit número máximo de vacantes a devolver.
+     * @return primeras vacantes del listado en formato DTO.
+     */
+    @Query(SELECT_DTO + "ORDER BY v.fecha DESC, v.idVacante DESC")
+    List<VacanteResponseDTO> findPrimeraPagina(Limit limit);
+
+    /**
+     * Paginación por clave (keyset): devuelve las vacantes situadas justo después
+     * de la posición indicada por el par (fecha, idVacante) en el orden del
+     * listado, sin necesidad de OFFSET.
+     *
+     * @param fecha     fecha de la última vacante de la página anterior.
+     * @param idVacante ID de la última vacante de la página anterior.
+     * @param limit     número máximo de vacantes a devolver.
+     * @return vacantes de la página siguiente en formato DTO.
+     */
+    @Query(SELECT_DTO + "WHERE v.fecha < :fecha OR (v.fecha = :fecha AND v.idVacante < :idVacante) "
+            + "ORDER BY v.fecha DESC, v.idVacante DESC")
+    List<VacanteResponseDTO> findPaginaSiguiente(@Param("fecha") LocalDate fecha,
+            @Param("idVacante") Integer idVacante, Limit limit);
+
+    /**
+     * Marca la vacante como {@code CUBIERTA} solo si sigue en estado
+     * {@code CREADA}. Es la reserva atómica de la adjudicación: si dos
+     * adjudicaciones de la misma vacante compiten, la base de datos serializa
+     * las dos sentencias sobre la fila y solo la primera actualiza algo.
+     *
+     * @param idVacante ID de la vacante.
+     * @return 1 si se ha cubierto la vacante, 0 si no estaba disponible.
+     */
+    @Modifying
+    @Query("UPDATE Vacante v SET v.estatus = vacantes_api.modelo.entity.Vacante.Estatus.CUBIERTA, "
+            + "v.version = v.version + 1 WHERE v.idVacante = :idVacante "
+            + "AND v.estatus = vacantes_api.modelo.entity.Vacante.Estatus.CREADA")
+    int marcarCubierta(@Param("idVacante") Integer idVacante);
+
+    /**
+     * Devuelve a {@code CREADA} una vacante {@code CUBIERTA} si la solicitud
+     * indicada es la adjudicada (al deshacer su adjudicación). La fila de la
+     * vacante queda bloqueada hasta el final de la transacción, igual que en
+     * {@link #marcarCubierta(Integer)}.
+     *
+     * @param idVacante   ID de la vacante.
+     * @param idSolicitud ID de la solicitud que se rechaza.
+     * @return 1 si la solicitud era la adjudicada, 0 en otro caso.
+     */
+    @Modifying
+    @Query("UPDATE Vacante v SET v.estatus = CASE "
+            + "WHEN v.estatus = vacantes_api.modelo.entity.Vacante.Estatus.CUBIERTA "
+            + "THEN vacantes_api.modelo.entity.Vacante.Estatus.CREADA ELSE v.estatus END, "
+            + "v.version = v.version + 1 WHERE v.idVacante = :idVacante AND EXISTS ("
+            + "SELECT 1 FROM Solicitud s WHERE s.vacante.idVacante = :idVacante "
+            + "AND s.idSolicitud = :idSolicitud AND s.estado = 1)")
+    int reabrirSiAdjudicada(@Param("idVacante") Integer idVacante, @Param("idSolicitud") Integer idSolicitud);
+
     /*
      * // Método alternativo a valorar si se desea buscar por estado textual.
      * List<Vacante> findByEstado(String estado);
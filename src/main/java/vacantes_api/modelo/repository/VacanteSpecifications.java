@@ -0,0 +1,61 @@
+package vacantes_api.modelo.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.Predicate;
+import vacantes_api.modelo.dto.VacanteFiltroDTO;
+import vacantes_api.modelo.entity.Vacante;
+
+/**
+ * Especificaciones JPA para construir consultas dinámicas sobre
+ * {@link Vacante}.
+ */
+public final class VacanteSpecifications {
+
+    private VacanteSpecifications() {
+    }
+
+    /**
+     * Combina con AND todos los criterios informados del filtro; los criterios
+     * nulos se ignoran. Categoría y empresa se comparan por clave ajena, sin
+     * necesidad de JOIN adicionales.
+     *
+     * @param filtro criterios de búsqueda.
+     * @return especificación equivalente al filtro.
+     */
+    public static Specification<Vacante> conFiltro(VacanteFiltroDTO filtro) {
+        return (root, query, cb) -> {
+            List<Predicate> predicados = new ArrayList<>();
+
+            if (filtro.getEstatus() != null) {
+                predicados.add(cb.equal(root.get("estatus"), filtro.getEstatus()));
+            }
+            if (filtro.getDestacado() != null) {
+                predicados.add(cb.equal(root.get("destacado"), filtro.getDestacado()));
+            }
+            if (filtro.getIdCategoria() != null) {
+                predicados.add(cb.equal(root.get("categoria").get("idCategoria"), filtro.getIdCategoria()));
+            }
+            if (filtro.getIdEmpresa() != null) {
+                predicados.add(cb.equal(root.get("empresa").get("idEmpresa"), filtro.getIdEmpresa()));
+            }
+            if (filtro.getSalarioMin() != null) {
+                predicados.add(cb.greaterThanOrEqualTo(root.get("salario"), filtro.getSalarioMin()));
+            }
+            if (filtro.getSalarioMax() != null) {
+                predicados.add(cb.lessThanOrEqualTo(root.get("salario"), filtro.getSalarioMax()));
+            }
+            if (filtro.getFechaDesde() != null) {
+                predicados.add(cb.greaterThanOrEqualTo(root.get("fecha"), filtro.getFechaDesde()));
+            }
+            if (filtro.getFechaHasta() != null) {
+                predicados.add(cb.lessThanOrEqualTo(root.get("fecha"), filtro.getFechaHasta()));
+            }
+
+            return cb.and(predicados.toArray(new Predicate[0]));
+        };
+    }
+}
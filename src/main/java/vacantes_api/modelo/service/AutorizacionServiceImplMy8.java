@@ -0,0 +1,38 @@
+package vacantes_api.modelo.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import vacantes_api.modelo.repository.ISolicitudRepository;
+import vacantes_api.modelo.repository.IVacanteRepository;
+
+/**
+ * Implementación del servicio de comprobación de propiedad mediante consultas
+ * de existencia de {@link IVacanteRepository} e {@link ISolicitudRepository}.
+ */
+@Service("autorizacion")
+public class AutorizacionServiceImplMy8 implements IAutorizacionService {
+
+    @Autowired
+    private IVacanteRepository vacanteRepository;
+
+    @Autowired
+    private ISolicitudRepository solicitudRepository;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean esPropietarioDeVacante(Integer idVacante, String email) {
+        return idVacante != null && email != null && vacanteRepository.existsByIdAndEmpresaEmail(idVacante, email);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean esPropietarioDeSolicitud(Integer idSolicitud, String email) {
+        return idSolicitud != null && email != null
+                && solicitudRepository.existsByIdAndEmpresaEmail(idSolicitud, email);
+    }
+}
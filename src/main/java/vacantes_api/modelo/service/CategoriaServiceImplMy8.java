@@ -1,11 +1,23 @@
 package vacantes_api.modelo.service;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import vacantes_api.config.CacheConfig;
+import vacantes_api.modelo.dto.CategoriaResponseDTO;
 import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.event.CategoriaModificadaEvent;
+import vacantes_api.modelo.event.VacanteModificadaEvent;
 import vacantes_api.modelo.repository.ICategoriaRepository;
 
 /**
@@ -13,14 +25,34 @@ import vacantes_api.modelo.repository.ICategoriaRepository;
  * Extiende la clase base {@link GenericoCRUDServiceImplMy8} para operaciones
  * CRUD genéricas
  * y añade lógica específica para buscar por nombre.
+ * <p>
+ * Las lecturas del catálogo en formato DTO se sirven desde las cachés
+ * declaradas en {@link CacheConfig}, que se vacían tras confirmar cualquier
+ * alta, modificación o baja de una categoría ({@link CategoriaModificadaEvent}).
+ * {@link #read(Integer)} devuelve la entidad gestionada, servida por la caché
+ * de segundo nivel de Hibernate. Las modificaciones y bajas publican además un
+ * {@link VacanteModificadaEvent}, ya que el nombre de la categoría forma
+ * parte de las respuestas de vacantes.
  */
 @Service
 public class CategoriaServiceImplMy8 extends GenericoCRUDServiceImplMy8<Categoria, Integer>
         implements ICategoriaService {
 
+    /**
+     * Cachés del catálogo que se vacían al modificar una categoría.
+     */
+    private static final List<String> CACHES = List.of(CacheConfig.CATEGORIAS, CacheConfig.CATEGORIA_POR_ID,
+            CacheConfig.CATEGORIAS_POR_NOMBRE);
+
     @Autowired
     private ICategoriaRepository categoriaRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Devuelve el repositorio asociado a la entidad {@link Categoria}.
      *
@@ -41,4 +73,82 @@ public class CategoriaServiceImplMy8 extends GenericoCRUDServiceImplMy8<Categori
     public List<Categoria> findByName(String name) {
         return categoriaRepository.findByNombreContainingIgnoreCase(name);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public Categoria create(Categoria categoria) {
+        Categoria creada = super.create(categoria);
+        eventPublisher.publishEvent(new CategoriaModificadaEvent(creada.getIdCategoria()));
+        return creada;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public Categoria update(Categoria categoria) {
+        Categoria actualizada = super.update(categoria);
+        eventPublisher.publishEvent(new CategoriaModificadaEvent(actualizada.getIdCategoria()));
+        eventPublisher.publishEvent(VacanteModificadaEvent.deCategoria(actualizada.getIdCategoria()));
+        return actualizada;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void delete(Integer id) {
+        super.delete(id);
+        eventPublisher.publishEvent(new CategoriaModificadaEvent(id));
+        eventPublisher.publishEvent(VacanteModificadaEvent.deCategoria(id));
+    }
+
+    /**
+     * Vacía las cachés del catálogo una vez confirmada la transacción (o
+     * inmediatamente si no hay transacción), para que una lectura concurrente
+     * no vuelva a cachear el valor anterior.
+     *
+     * @param evento evento con el ID de la categoría modificada.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoriaModificada(CategoriaModificadaEvent evento) {
+        for (String nombre : CACHES) {
+            Cache cache = cacheManager.getCache(nombre);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Cacheable(CacheConfig.CATEGORIAS)
+    public List<CategoriaResponseDTO> findAllDTO() {
+        return categoriaRepository.findAllDTO();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Cacheable(CacheConfig.CATEGORIA_POR_ID)
+    public Optional<CategoriaResponseDTO> findDTOById(Integer idCategoria) {
+        return categoriaRepository.findDTOById(idCategoria);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Cacheable(CacheConfig.CATEGORIAS_POR_NOMBRE)
+    public List<CategoriaResponseDTO> findDTOByName(String name) {
+        return categoriaRepository.findDTOByNombre(name);
+    }
 }
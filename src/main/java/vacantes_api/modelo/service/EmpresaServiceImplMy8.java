@@ -1,14 +1,29 @@
 package vacantes_api.modelo.service;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import vacantes_api.modelo.dto.EmpresaActualDTO;
 import vacantes_api.modelo.dto.EmpresaRegisterRequestDTO;
+import vacantes_api.modelo.dto.EmpresaResponseDTO;
+import vacantes_api.modelo.dto.PaginaDTO;
+import vacantes_api.modelo.dto.VacanteResponseDTO;
 import vacantes_api.modelo.entity.Empresa;
 import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.event.UsuarioModificadoEvent;
+import vacantes_api.modelo.event.VacanteModificadaEvent;
+import vacantes_api.modelo.mapper.EmpresaMapper;
 import vacantes_api.modelo.repository.IEmpresaRepository;
+import vacantes_api.modelo.repository.IVacanteRepository;
 
 /**
  * Implementación del servicio de gestión de empresas.
@@ -23,6 +38,15 @@ public class EmpresaServiceImplMy8 extends GenericoCRUDServiceImplMy8<Empresa, I
     @Autowired
     private IEmpresaRepository empresaRepository;
 
+    @Autowired
+    private IVacanteRepository vacanteRepository;
+
+    @Autowired
+    private EmpresaMapper empresaMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Retorna el repositorio específico para la entidad {@link Empresa}.
      *
@@ -44,6 +68,22 @@ public class EmpresaServiceImplMy8 extends GenericoCRUDServiceImplMy8<Empresa, I
         return empresaRepository.findByUsuarioEmail(email);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<EmpresaActualDTO> findEmpresaActual(String email) {
+        return empresaRepository.findEmpresaActualByEmail(email);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Empresa getReferencia(Integer idEmpresa) {
+        return empresaRepository.getReferenceById(idEmpresa);
+    }
+
     /**
      * Registra una nueva empresa asociada a un usuario ya existente.
      *
@@ -72,6 +112,7 @@ public class EmpresaServiceImplMy8 extends GenericoCRUDServiceImplMy8<Empresa, I
      * @return empresa actualizada.
      */
     @Override
+    @Transactional
     public Empresa updateEmpresa(Integer id, EmpresaRegisterRequestDTO dto) {
         Empresa empresa = empresaRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Empresa no encontrada con id: " + id));
@@ -81,7 +122,12 @@ public class EmpresaServiceImplMy8 extends GenericoCRUDServiceImplMy8<Empresa, I
         empresa.setDireccionFiscal(dto.getDireccionFiscal());
         empresa.setPais(dto.getPais());
 
-        return empresaRepository.save(empresa);
+        Empresa guardada = empresaRepository.save(empresa);
+        eventPublisher.publishEvent(VacanteModificadaEvent.deEmpresa(guardada.getIdEmpresa()));
+        if (empresa.getUsuario() != null) {
+            eventPublisher.publishEvent(new UsuarioModificadoEvent(empresa.getUsuario().getEmail()));
+        }
+        return guardada;
     }
 
     /**
@@ -92,6 +138,7 @@ public class EmpresaServiceImplMy8 extends GenericoCRUDServiceImplMy8<Empresa, I
      * @param estado    nuevo estado del usuario (1 = activo, 0 = inactivo).
      */
     @Override
+    @Transactional
     public void setEstadoUsuarioEmpresa(Integer idEmpresa, Integer estado) {
         Empresa empresa = empresaRepository.findById(idEmpresa)
                 .orElseThrow(() -> new IllegalArgumentException("Empresa no encontrada con id: " + idEmpresa));
@@ -100,5 +147,33 @@ public class EmpresaServiceImplMy8 extends GenericoCRUDServiceImplMy8<Empresa, I
         usuario.setEnabled(estado);
 
         empresaRepository.save(empresa);
+        eventPublisher.publishEvent(new UsuarioModificadoEvent(usuario.getEmail()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PaginaDTO<EmpresaResponseDTO> findPaginaByEstado(Integer enabled, Pageable pageable) {
+        Page<Empresa> pagina = empresaRepository.findByUsuarioEnabled(enabled, pageable);
+
+        List<EmpresaResponseDTO> empresas = empresaMapper.toDTOList(pagina.getContent());
+        if (!empresas.isEmpty()) {
+            Map<Integer, List<VacanteResponseDTO>> vacantesPorEmpresa = vacanteRepository
+                    .findDTOByEmpresaIdIn(empresas.stream().map(EmpresaResponseDTO::getIdEmpresa).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(VacanteResponseDTO::getIdEmpresa));
+            for (EmpresaResponseDTO empresa : empresas) {
+                empresa.setVacantes(vacantesPorEmpresa.getOrDefault(empresa.getIdEmpresa(), List.of()));
+            }
+        }
+
+        return PaginaDTO.<EmpresaResponseDTO>builder()
+                .contenido(empresas)
+                .pagina(pagina.getNumber())
+                .tamano(pagina.getSize())
+                .totalElementos(pagina.getTotalElements())
+                .totalPaginas(pagina.getTotalPages())
+                .build();
     }
 }
@@ -59,7 +59,6 @@ public abstract class GenericoCRUDServiceImplMy8<E, ID> implements IGenericoCRUD
         }
 
         try {
-            LOGGER.info("Guardando entidad: {}", entity);
             return getRepository().save(entity);
         } catch (Exception e) {
             LOGGER.error("Error al crear la entidad: {}", e.getMessage(), e);
@@ -103,7 +102,6 @@ public abstract class GenericoCRUDServiceImplMy8<E, ID> implements IGenericoCRUD
         }
 
         try {
-            LOGGER.info("Actualizando entidad: {}", entity);
             return getRepository().save(entity);
         } catch (Exception e) {
             LOGGER.error("Error al actualizar la entidad: {}", e.getMessage(), e);
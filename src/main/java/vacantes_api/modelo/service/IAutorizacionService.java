@@ -0,0 +1,31 @@
+package vacantes_api.modelo.service;
+
+/**
+ * Interfaz de servicio para comprobar la propiedad de vacantes y solicitudes.
+ * <p>
+ * Cada comprobación es una única consulta de existencia por clave primaria, sin
+ * cargar entidades. La implementación se registra con el nombre
+ * {@code autorizacion} para usarla en expresiones {@code @PreAuthorize}, por
+ * ejemplo {@code @autorizacion.esPropietarioDeVacante(#idVacante, authentication.name)}.
+ */
+public interface IAutorizacionService {
+
+    /**
+     * Comprueba si la vacante pertenece a la empresa del usuario.
+     *
+     * @param idVacante ID de la vacante.
+     * @param email     email del usuario de la empresa.
+     * @return {@code true} si la vacante existe y es de esa empresa.
+     */
+    boolean esPropietarioDeVacante(Integer idVacante, String email);
+
+    /**
+     * Comprueba si la solicitud es de una vacante de la empresa del usuario.
+     *
+     * @param idSolicitud ID de la solicitud.
+     * @param email       email del usuario de la empresa.
+     * @return {@code true} si la solicitud existe y es de una vacante de esa
+     *         empresa.
+     */
+    boolean esPropietarioDeSolicitud(Integer idSolicitud, String email);
+}
@@ -1,7 +1,9 @@
 package vacantes_api.modelo.service;
 
 import java.util.List;
+import java.util.Optional;
 
+import vacantes_api.modelo.dto.CategoriaResponseDTO;
 import vacantes_api.modelo.entity.Categoria;
 
 /**
@@ -18,4 +20,30 @@ public interface ICategoriaService extends IGenericoCRUD<Categoria, Integer> {
      * @return lista de categorías coincidentes.
      */
     List<Categoria> findByName(String name);
+
+    /**
+     * Devuelve todas las categorías proyectadas sobre
+     * {@link CategoriaResponseDTO}, sin cargar entidades gestionadas.
+     *
+     * @return lista de categorías en formato DTO.
+     */
+    List<CategoriaResponseDTO> findAllDTO();
+
+    /**
+     * Busca una categoría por su ID proyectada sobre {@link CategoriaResponseDTO}.
+     * El resultado se cachea; para obtener la entidad gestionada se usa
+     * {@link #read(Object)}.
+     *
+     * @param idCategoria ID de la categoría.
+     * @return la categoría en formato DTO, si existe.
+     */
+    Optional<CategoriaResponseDTO> findDTOById(Integer idCategoria);
+
+    /**
+     * Versión proyectada de {@link #findByName(String)}.
+     *
+     * @param name nombre parcial o completo de la categoría a buscar.
+     * @return lista de categorías coincidentes en formato DTO.
+     */
+    List<CategoriaResponseDTO> findDTOByName(String name);
 }
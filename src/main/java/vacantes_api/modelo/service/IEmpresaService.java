@@ -2,7 +2,12 @@ package vacantes_api.modelo.service;
 
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+
+import vacantes_api.modelo.dto.EmpresaActualDTO;
 import vacantes_api.modelo.dto.EmpresaRegisterRequestDTO;
+import vacantes_api.modelo.dto.EmpresaResponseDTO;
+import vacantes_api.modelo.dto.PaginaDTO;
 import vacantes_api.modelo.entity.Empresa;
 import vacantes_api.modelo.entity.Usuario;
 
@@ -46,4 +51,33 @@ public interface IEmpresaService extends IGenericoCRUD<Empresa, Integer> {
      * @return un {@link Optional} con la empresa correspondiente, si existe.
      */
     Optional<Empresa> findByUsuarioEmail(String email);
+
+    /**
+     * Recupera el identificador, rol y estado de la empresa de un usuario.
+     *
+     * @param email email del usuario.
+     * @return un {@link Optional} con los datos, si el usuario tiene empresa.
+     */
+    Optional<EmpresaActualDTO> findEmpresaActual(String email);
+
+    /**
+     * Devuelve una referencia a la empresa sin consultar la base de datos,
+     * para asignarla como clave ajena.
+     *
+     * @param idEmpresa identificador de la empresa.
+     * @return referencia perezosa a la empresa.
+     */
+    Empresa getReferencia(Integer idEmpresa);
+
+    /**
+     * Recupera una página de empresas cuyo usuario tiene el estado indicado,
+     * cada una con sus vacantes. Se resuelve con una consulta para la página,
+     * otra para el total y otra para las vacantes de todas las empresas de la
+     * página.
+     *
+     * @param enabled  estado del usuario (1 = activo, 0 = inactivo).
+     * @param pageable página y ordenación solicitadas.
+     * @return página de empresas en formato DTO.
+     */
+    PaginaDTO<EmpresaResponseDTO> findPaginaByEstado(Integer enabled, Pageable pageable);
 }
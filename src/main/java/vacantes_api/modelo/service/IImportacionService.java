@@ -0,0 +1,49 @@
+package vacantes_api.modelo.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import vacantes_api.modelo.dto.ImportacionResultadoDTO;
+import vacantes_api.modelo.entity.Empresa;
+
+/**
+ * Interfaz de servicio para la importación masiva de vacantes y solicitudes.
+ * <p>
+ * El cuerpo es un array JSON que se lee elemento a elemento, sin cargarlo
+ * entero en memoria, y se guarda en lotes que se confirman en transacciones
+ * independientes. Si un elemento no es válido la importación se detiene: los
+ * lotes anteriores quedan guardados y el lote en curso se descarta.
+ */
+public interface IImportacionService {
+
+    /**
+     * Importa vacantes ({@code VacanteRequestDTO}) para una empresa. Todas se
+     * crean en estado CREADA.
+     *
+     * @param json    array JSON de vacantes.
+     * @param empresa empresa que publica las vacantes.
+     * @return número de vacantes importadas y de lotes confirmados.
+     * @throws IllegalArgumentException si el JSON o algún elemento no es
+     *                                  válido.
+     * @throws IOException              si falla la lectura del cuerpo.
+     */
+    ImportacionResultadoDTO importarVacantes(InputStream json, Empresa empresa) throws IOException;
+
+    /**
+     * Importa solicitudes ({@code SolicitudImportDTO}), por ejemplo datos
+     * históricos de otro sistema.
+     *
+     * @param json array JSON de solicitudes.
+     * @return número de solicitudes importadas y de lotes confirmados.
+     * @throws IllegalArgumentException si el JSON o algún elemento no es
+     *                                  válido (incluida una segunda solicitud
+     *                                  adjudicada de la misma vacante).
+     * @throws IllegalStateException    si un lote incumple una restricción de
+     *                                  la base de datos (vacante o usuario
+     *                                  inexistente, solicitud duplicada) o
+     *                                  adjudica una vacante que ya no está
+     *                                  disponible.
+     * @throws IOException              si falla la lectura del cuerpo.
+     */
+    ImportacionResultadoDTO importarSolicitudes(InputStream json) throws IOException;
+}
@@ -2,7 +2,9 @@ package vacantes_api.modelo.service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import vacantes_api.modelo.dto.SolicitudResponseDTO;
 import vacantes_api.modelo.entity.Solicitud;
 import vacantes_api.modelo.entity.Usuario;
 import vacantes_api.modelo.entity.Vacante;
@@ -39,6 +41,42 @@ public interface ISolicitudService extends IGenericoCRUD<Solicitud, Integer> {
      */
     List<Solicitud> findByVacante(Vacante vacante);
 
+    /**
+     * Busca una solicitud por su ID proyectada sobre
+     * {@link SolicitudResponseDTO}, sin cargar entidades gestionadas.
+     *
+     * @param idSolicitud ID de la solicitud.
+     * @return la solicitud en formato DTO, si existe.
+     */
+    Optional<SolicitudResponseDTO> findDTOById(Integer idSolicitud);
+
+    /**
+     * Versión proyectada de {@link #findByUsuarioEmail(String)}.
+     *
+     * @param email email del usuario.
+     * @return lista de solicitudes del usuario en formato DTO.
+     */
+    List<SolicitudResponseDTO> findDTOByUsuarioEmail(String email);
+
+    /**
+     * Obtiene las solicitudes de una vacante proyectadas sobre
+     * {@link SolicitudResponseDTO}.
+     *
+     * @param idVacante ID de la vacante.
+     * @return lista de solicitudes de la vacante en formato DTO.
+     */
+    List<SolicitudResponseDTO> findDTOByVacanteId(Integer idVacante);
+
+    /**
+     * Aplica una acción a cada solicitud de una vacante leyéndolas con un
+     * cursor, de forma que la memoria usada no depende del número de
+     * solicitudes.
+     *
+     * @param idVacante ID de la vacante.
+     * @param accion    acción a aplicar a cada solicitud en formato DTO.
+     */
+    void forEachDTOByVacanteId(Integer idVacante, Consumer<SolicitudResponseDTO> accion);
+
     /**
      * Elimina todas las solicitudes vinculadas a una vacante.
      *
@@ -47,18 +85,22 @@ public interface ISolicitudService extends IGenericoCRUD<Solicitud, Integer> {
     void deleteByVacanteId(int vacanteId);
 
     /**
-     * Marca una solicitud como adjudicada y actualiza el estado de las demás
-     * solicitudes asociadas a la vacante.
+     * Marca una solicitud como adjudicada, rechaza las demás solicitudes de la
+     * vacante y marca la vacante como cubierta.
      *
      * @param idSolicitud ID de la solicitud que se adjudica.
+     * @throws IllegalStateException si la vacante ya está cubierta o cancelada.
      */
     void adjudicarSolicitud(int idSolicitud);
 
     /**
-     * Marca una solicitud adjudicada como rechazada (permite deshacer
-     * adjudicaciones).
+     * Marca una solicitud como rechazada. Si estaba adjudicada, deshace la
+     * adjudicación: las demás solicitudes vuelven a pendiente y la vacante
+     * vuelve a estar abierta.
      *
      * @param idSolicitud ID de la solicitud a rechazar.
+     * @param idVacante   ID de la vacante de la solicitud.
+     * @throws IllegalStateException si la solicitud ya estaba rechazada.
      */
-    void rechazarSolicitud(int idSolicitud);
+    void rechazarSolicitud(int idSolicitud, int idVacante);
 }
@@ -1,7 +1,14 @@
 package vacantes_api.modelo.service;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+
+import vacantes_api.modelo.dto.PaginaCursorDTO;
+import vacantes_api.modelo.dto.PaginaDTO;
+import vacantes_api.modelo.dto.VacanteFiltroDTO;
+import vacantes_api.modelo.dto.VacanteResponseDTO;
 import vacantes_api.modelo.entity.Vacante;
 
 /**
@@ -43,6 +50,14 @@ public interface IVacanteService extends IGenericoCRUD<Vacante, Integer> {
      */
     List<Vacante> findByEmpresaNombreEmpresa(String nombreEmpresa);
 
+    /**
+     * Busca las vacantes publicadas por una empresa.
+     *
+     * @param idEmpresa ID de la empresa.
+     * @return lista de vacantes de la empresa.
+     */
+    List<Vacante> findByEmpresaId(Integer idEmpresa);
+
     /**
      * Busca vacantes cuyo salario sea mayor o igual al valor especificado.
      *
@@ -51,6 +66,97 @@ public interface IVacanteService extends IGenericoCRUD<Vacante, Integer> {
      */
     List<Vacante> findBySalario(Double salario);
 
+    /**
+     * Devuelve todas las vacantes proyectadas directamente sobre
+     * {@link VacanteResponseDTO}, sin cargar entidades gestionadas.
+     *
+     * @return lista de vacantes en formato DTO.
+     */
+    List<VacanteResponseDTO> findAllDTO();
+
+    /**
+     * Busca una vacante por su ID proyectada sobre {@link VacanteResponseDTO}.
+     *
+     * @param idVacante ID de la vacante.
+     * @return la vacante en formato DTO, si existe.
+     */
+    Optional<VacanteResponseDTO> findDTOById(Integer idVacante);
+
+    /**
+     * Versión proyectada de {@link #findByNombre(String)}.
+     *
+     * @param nombre nombre parcial o completo de la vacante.
+     * @return lista de vacantes coincidentes en formato DTO.
+     */
+    List<VacanteResponseDTO> findDTOByNombre(String nombre);
+
+    /**
+     * Versión proyectada de {@link #findByCategoriaNombre(String)}.
+     *
+     * @param nombre nombre de la categoría.
+     * @return lista de vacantes asociadas en formato DTO.
+     */
+    List<VacanteResponseDTO> findDTOByCategoriaNombre(String nombre);
+
+    /**
+     * Versión proyectada de {@link #findByEmpresaNombreEmpresa(String)}.
+     *
+     * @param nombreEmpresa nombre de la empresa.
+     * @return lista de vacantes publicadas en formato DTO.
+     */
+    List<VacanteResponseDTO> findDTOByEmpresaNombreEmpresa(String nombreEmpresa);
+
+    /**
+     * Versión proyectada de {@link #findByEmpresaId(Integer)}.
+     *
+     * @param idEmpresa ID de la empresa.
+     * @return lista de vacantes de la empresa en formato DTO.
+     */
+    List<VacanteResponseDTO> findDTOByEmpresaId(Integer idEmpresa);
+
+    /**
+     * Versión proyectada de {@link #findBySalario(Double)}.
+     *
+     * @param salario salario mínimo a filtrar.
+     * @return lista de vacantes que cumplen el criterio en formato DTO.
+     */
+    List<VacanteResponseDTO> findDTOBySalario(Double salario);
+
+    /**
+     * Devuelve una página del listado de vacantes usando paginación por cursor
+     * (keyset sobre fecha e ID), de modo que el coste de cada página no depende
+     * del número total de vacantes.
+     *
+     * @param after cursor devuelto en la página anterior, o {@code null} para la
+     *              primera página.
+     * @param limit número máximo de vacantes de la página.
+     * @return página con las vacantes y el cursor de la siguiente página.
+     * @throws IllegalArgumentException si el cursor no es válido.
+     */
+    PaginaCursorDTO<VacanteResponseDTO> findPagina(String after, int limit);
+
+    /**
+     * Filtra vacantes combinando en una única consulta todos los criterios
+     * informados en el filtro (estado, destacado, categoría, empresa, rango de
+     * salario y rango de fechas).
+     *
+     * @param filtro   criterios de búsqueda; los nulos se ignoran.
+     * @param pageable página y ordenación.
+     * @return página de vacantes en formato DTO.
+     */
+    PaginaDTO<VacanteResponseDTO> filtrar(VacanteFiltroDTO filtro, Pageable pageable);
+
+    /**
+     * Búsqueda de texto libre sobre nombre, descripción, detalles, categoría y
+     * empresa de las vacantes, usando el índice invertido en memoria en lugar
+     * de consultas {@code LIKE '%x%'}.
+     *
+     * @param consulta texto a buscar.
+     * @param limit    número máximo de resultados.
+     * @return vacantes en formato DTO ordenadas por relevancia.
+     */
+    List<VacanteResponseDTO> search(String consulta, int limit);
+
     /*
      * Método para búsqueda por estado de la vacante (opcional).
      * List<Vacante> findByEstado(String estado);
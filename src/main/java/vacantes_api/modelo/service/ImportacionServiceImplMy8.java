@@ -0,0 +1,301 @@
+package vacantes_api.modelo.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import vacantes_api.modelo.dto.ImportacionResultadoDTO;
+import vacantes_api.modelo.dto.SolicitudImportDTO;
+import vacantes_api.modelo.dto.VacanteRequestDTO;
+import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.entity.Empresa;
+import vacantes_api.modelo.entity.Solicitud;
+import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.entity.Vacante;
+import vacantes_api.modelo.event.VacanteModificadaEvent;
+import vacantes_api.modelo.repository.IVacanteRepository;
+
+/**
+ * Implementación de {@link IImportacionService}.
+ * <p>
+ * Cada lote de {@code vacantes.importacion.tamano-lote} elementos se guarda
+ * en su propia transacción con {@code persist}; como Vacante y Solicitud
+ * obtienen el ID de {@code id_generadores} por bloques, Hibernate envía los
+ * INSERT en lotes JDBC de {@code hibernate.jdbc.batch_size} filas. Las
+ * relaciones se asignan con {@code getReference}, sin SELECT por fila.
+ */
+@Service
+public class ImportacionServiceImplMy8 implements IImportacionService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportacionServiceImplMy8.class);
+
+    private static final int ESTADO_ADJUDICADA = 1;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ICategoriaService categoriaService;
+
+    @Autowired
+    private IVacanteRepository vacanteRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${vacantes.importacion.tamano-lote:500}")
+    private int tamanoLote;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Al terminar, si se ha importado alguna vacante, se publica un
+     * {@link VacanteModificadaEvent} de la empresa para actualizar el índice
+     * de búsqueda y la caché de respuestas.
+     */
+    @Override
+    public ImportacionResultadoDTO importarVacantes(InputStream json, Empresa empresa) throws IOException {
+        Integer idEmpresa = empresa.getIdEmpresa();
+        Map<Integer, Boolean> categoriasExistentes = new HashMap<>();
+        Progreso progreso = new Progreso();
+
+        try {
+            importar(json, VacanteRequestDTO.class,
+                    dto -> categoriasExistentes.computeIfAbsent(dto.getIdCategoria(),
+                            id -> categoriaService.read(id).isPresent())
+                                    ? null
+                                    : "categoría " + dto.getIdCategoria() + " no encontrada",
+                    dto -> entityManager.persist(Vacante.builder()
+                            .nombre(dto.getNombre())
+                            .descripcion(dto.getDescripcion())
+                            .fecha(dto.getFecha())
+                            .salario(dto.getSalario())
+                            .estatus(Vacante.Estatus.CREADA)
+                            .destacado(dto.getDestacado())
+                            .imagen(dto.getImagen())
+                            .detalles(dto.getDetalles())
+                            .categoria(entityManager.getReference(Categoria.class, dto.getIdCategoria()))
+                            .empresa(entityManager.getReference(Empresa.class, idEmpresa))
+                            .build()),
+                    progreso);
+            LOGGER.info("Importadas {} vacantes para la empresa {} en {} lotes", progreso.importados, idEmpresa,
+                    progreso.lotes);
+            return progreso.toDTO();
+        } finally {
+            if (progreso.importados > 0) {
+                eventPublisher.publishEvent(VacanteModificadaEvent.deEmpresa(idEmpresa));
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Una solicitud adjudicada ({@code estado = 1}) cubre su vacante con
+     * {@link IVacanteRepository#marcarCubierta}, igual que
+     * {@link ISolicitudService#adjudicarSolicitud}, de modo que cada vacante
+     * tiene como mucho una solicitud adjudicada: se rechaza una segunda
+     * adjudicada de la misma vacante en la importación y el lote de una
+     * adjudicada cuya vacante ya no está {@code CREADA}.
+     */
+    @Override
+    public ImportacionResultadoDTO importarSolicitudes(InputStream json) throws IOException {
+        Set<Integer> vacantesAdjudicadas = new HashSet<>();
+        Progreso progreso = new Progreso();
+
+        try {
+            importar(json, SolicitudImportDTO.class,
+                    dto -> dto.getEstado() == ESTADO_ADJUDICADA && !vacantesAdjudicadas.add(dto.getIdVacante())
+                            ? "la vacante " + dto.getIdVacante() + " ya tiene otra solicitud adjudicada"
+                            : null,
+                    dto -> {
+                        if (dto.getEstado() == ESTADO_ADJUDICADA
+                                && vacanteRepository.marcarCubierta(dto.getIdVacante()) == 0) {
+                            throw new IllegalStateException("la vacante " + dto.getIdVacante()
+                                    + " no está disponible para adjudicar");
+                        }
+                        entityManager.persist(Solicitud.builder()
+                                .fecha(dto.getFecha())
+                                .archivo(dto.getArchivo())
+                                .comentarios(dto.getComentarios())
+                                .estado(dto.getEstado())
+                                .curriculum(dto.getCurriculum())
+                                .vacante(entityManager.getReference(Vacante.class, dto.getIdVacante()))
+                                .usuario(entityManager.getReference(Usuario.class, dto.getEmail()))
+                                .build());
+                    },
+                    progreso);
+            LOGGER.info("Importadas {} solicitudes en {} lotes", progreso.importados, progreso.lotes);
+            return progreso.toDTO();
+        } finally {
+            if (progreso.importados > 0) {
+                vacantesAdjudicadas.forEach(id -> eventPublisher.publishEvent(VacanteModificadaEvent.deVacante(id)));
+            }
+        }
+    }
+
+    /**
+     * Lee el array JSON elemento a elemento, valida cada uno y los guarda en
+     * lotes.
+     *
+     * @param json       cuerpo de la petición.
+     * @param tipo       clase de los elementos.
+     * @param comprobar  validación adicional; devuelve el motivo del error o
+     *                   {@code null} si el elemento es correcto.
+     * @param persistir  persiste un elemento (se invoca dentro de la
+     *                   transacción del lote).
+     * @param progreso   elementos y lotes guardados, actualizado tras cada lote
+     *                   confirmado.
+     */
+    private <T> void importar(InputStream json, Class<T> tipo, Function<T, String> comprobar,
+            Consumer<T> persistir, Progreso progreso) throws IOException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<T> lote = new ArrayList<>(tamanoLote);
+        int indice = 0;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("El cuerpo debe ser un array JSON");
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                T elemento;
+                try {
+                    elemento = objectMapper.readValue(parser, tipo);
+                } catch (JsonProcessingException e) {
+                    throw elementoNoValido(indice, e.getOriginalMessage(), progreso);
+                }
+
+                String error = validar(elemento);
+                if (error == null) {
+                    error = comprobar.apply(elemento);
+                }
+                if (error != null) {
+                    throw elementoNoValido(indice, error, progreso);
+                }
+
+                lote.add(elemento);
+                indice++;
+                if (lote.size() == tamanoLote) {
+                    guardarLote(transactionTemplate, lote, persistir, progreso);
+                }
+            }
+
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw elementoNoValido(indice, "se esperaba un objeto JSON", progreso);
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON no válido en el elemento " + indice + ": "
+                    + e.getOriginalMessage() + importadosPrevios(progreso), e);
+        }
+
+        if (!lote.isEmpty()) {
+            guardarLote(transactionTemplate, lote, persistir, progreso);
+        }
+    }
+
+    /**
+     * Guarda un lote en una transacción y vacía la lista.
+     * <p>
+     * Con open-in-view el EntityManager es el de la petición y el commit no lo
+     * limpia, así que el lote se desvincula antes de confirmar; si no, cada
+     * flush revisaría todas las filas de los lotes anteriores.
+     */
+    private <T> void guardarLote(TransactionTemplate transactionTemplate, List<T> lote, Consumer<T> persistir,
+            Progreso progreso) {
+        try {
+            transactionTemplate.executeWithoutResult(estado -> {
+                lote.forEach(persistir);
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (DataAccessException | PersistenceException e) {
+            // el flush explícito lanza la excepción de Hibernate sin traducir
+            throw new IllegalStateException("La base de datos ha rechazado el lote " + progreso.lotes + ": "
+                    + NestedExceptionUtils.getMostSpecificCause(e).getMessage() + importadosPrevios(progreso), e);
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException("Lote " + progreso.lotes + " rechazado: " + e.getMessage()
+                    + importadosPrevios(progreso), e);
+        }
+        progreso.importados += lote.size();
+        progreso.lotes++;
+        lote.clear();
+    }
+
+    private <T> String validar(T elemento) {
+        Set<ConstraintViolation<T>> errores = validator.validate(elemento);
+        if (errores.isEmpty()) {
+            return null;
+        }
+        return errores.stream()
+                .map(error -> error.getPropertyPath() + " " + error.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static IllegalArgumentException elementoNoValido(int indice, String motivo, Progreso progreso) {
+        return new IllegalArgumentException("Elemento " + indice + " no válido: " + motivo
+                + importadosPrevios(progreso));
+    }
+
+    private static String importadosPrevios(Progreso progreso) {
+        return progreso.importados > 0
+                ? " (ya se habían importado " + progreso.importados + " registros)"
+                : "";
+    }
+
+    /**
+     * Elementos y lotes confirmados durante una importación.
+     */
+    private static final class Progreso {
+
+        private int importados;
+
+        private int lotes;
+
+        private ImportacionResultadoDTO toDTO() {
+            return ImportacionResultadoDTO.builder()
+                    .importados(importados)
+                    .lotes(lotes)
+                    .build();
+        }
+    }
+}
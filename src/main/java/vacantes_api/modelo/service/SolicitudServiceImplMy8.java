@@ -2,16 +2,27 @@ package vacantes_api.modelo.service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
+import vacantes_api.modelo.dto.SolicitudResponseDTO;
 import vacantes_api.modelo.entity.Solicitud;
 import vacantes_api.modelo.entity.Usuario;
 import vacantes_api.modelo.entity.Vacante;
+import vacantes_api.modelo.event.VacanteModificadaEvent;
 import vacantes_api.modelo.repository.ISolicitudRepository;
+import vacantes_api.modelo.repository.IVacanteRepository;
 
 /**
  * Implementación del servicio {@link ISolicitudService} que gestiona las
@@ -22,9 +33,25 @@ import vacantes_api.modelo.repository.ISolicitudRepository;
 public class SolicitudServiceImplMy8 extends GenericoCRUDServiceImplMy8<Solicitud, Integer>
 		implements ISolicitudService {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(SolicitudServiceImplMy8.class);
+
+	/**
+	 * Intentos de adjudicación ante conflictos de concurrencia.
+	 */
+	private static final int MAX_INTENTOS = 3;
+
 	@Autowired
 	private ISolicitudRepository solicitudRepository;
 
+	@Autowired
+	private IVacanteRepository vacanteRepository;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
 	@Override
 	protected ISolicitudRepository getRepository() {
 		return solicitudRepository;
@@ -54,6 +81,41 @@ public class SolicitudServiceImplMy8 extends GenericoCRUDServiceImplMy8<Solicitu
 		return solicitudRepository.findByVacante(vacante);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Optional<SolicitudResponseDTO> findDTOById(Integer idSolicitud) {
+		return solicitudRepository.findDTOById(idSolicitud);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<SolicitudResponseDTO> findDTOByUsuarioEmail(String email) {
+		return solicitudRepository.findDTOByUsuarioEmail(email);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<SolicitudResponseDTO> findDTOByVacanteId(Integer idVacante) {
+		return solicitudRepository.findDTOByVacanteId(idVacante);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public void forEachDTOByVacanteId(Integer idVacante, Consumer<SolicitudResponseDTO> accion) {
+		try (Stream<SolicitudResponseDTO> solicitudes = solicitudRepository.streamDTOByVacanteId(idVacante)) {
+			solicitudes.forEach(accion);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -66,40 +128,79 @@ public class SolicitudServiceImplMy8 extends GenericoCRUDServiceImplMy8<Solicitu
 	/**
 	 * Adjudica una solicitud (estado = 1) y marca las demás solicitudes de la
 	 * vacante como rechazadas (estado = 2).
+	 * <p>
+	 * La vacante se reserva con un UPDATE condicional que la pasa de CREADA a
+	 * CUBIERTA, de modo que de dos adjudicaciones concurrentes sobre la misma
+	 * vacante solo una puede tener éxito, sin bloqueos pesimistas. Las
+	 * solicitudes se actualizan después con una única sentencia. Si la
+	 * transacción falla por un conflicto de concurrencia (bloqueo optimista o
+	 * interbloqueo) se reintenta hasta {@value #MAX_INTENTOS} veces.
 	 *
 	 * @param idSolicitud ID de la solicitud adjudicada.
+	 * @throws EntityNotFoundException si la solicitud no existe.
+	 * @throws IllegalStateException   si la vacante ya está cubierta o
+	 *                                 cancelada.
 	 */
 	@Override
-	@Transactional
 	public void adjudicarSolicitud(int idSolicitud) {
-		Solicitud solSelect = solicitudRepository.findById(idSolicitud)
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		for (int intento = 1;; intento++) {
+			try {
+				transactionTemplate.executeWithoutResult(estado -> adjudicar(idSolicitud));
+				return;
+			} catch (ConcurrencyFailureException e) {
+				if (intento >= MAX_INTENTOS) {
+					throw e;
+				}
+				LOGGER.debug("Conflicto al adjudicar la solicitud {}, reintento {}", idSolicitud, intento);
+			}
+		}
+	}
+
+	/**
+	 * Reserva la vacante y actualiza sus solicitudes dentro de la transacción
+	 * actual.
+	 *
+	 * @param idSolicitud ID de la solicitud adjudicada.
+	 */
+	private void adjudicar(int idSolicitud) {
+		Integer idVacante = solicitudRepository.findIdVacanteById(idSolicitud)
 				.orElseThrow(() -> new EntityNotFoundException("Solicitud no encontrada"));
 
-		solSelect.setEstado(1);
-		solicitudRepository.save(solSelect);
+		if (vacanteRepository.marcarCubierta(idVacante) == 0) {
+			throw new IllegalStateException("La vacante ya está cubierta o cancelada");
+		}
 
-		int vacanteId = solSelect.getVacante().getIdVacante();
-		solicitudRepository.rejectOthers(vacanteId, idSolicitud);
+		solicitudRepository.adjudicar(idVacante, idSolicitud);
+		eventPublisher.publishEvent(VacanteModificadaEvent.deVacante(idVacante));
 	}
 
 	/**
 	 * Rechaza una solicitud y, si estaba adjudicada, restablece todas las
-	 * solicitudes de la vacante a estado pendiente (estado = 0).
+	 * solicitudes de la vacante a estado pendiente (estado = 0) y vuelve a
+	 * abrir la vacante.
+	 * <p>
+	 * Se ejecuta en una única transacción con dos sentencias y sin cargar la
+	 * solicitud: la primera reabre la vacante solo si la solicitud es la
+	 * adjudicada (y bloquea su fila frente a adjudicaciones concurrentes), y la
+	 * segunda actualiza las solicitudes según el resultado.
 	 *
 	 * @param idSolicitud ID de la solicitud a rechazar.
+	 * @param idVacante   ID de la vacante de la solicitud.
+	 * @throws IllegalStateException si la solicitud ya no está pendiente ni
+	 *                               adjudicada (por ejemplo, porque otra
+	 *                               petición la ha modificado).
 	 */
 	@Override
-	public void rechazarSolicitud(int idSolicitud) {
-		Solicitud solicitud = solicitudRepository.findById(idSolicitud)
-				.orElseThrow(() -> new EntityNotFoundException("Solicitud no encontrada"));
-
-		int vacanteId = solicitud.getVacante().getIdVacante();
-
-		if (solicitud.getEstado() == 1) {
-			solicitudRepository.resetAllEstado(vacanteId);
+	@Transactional
+	public void rechazarSolicitud(int idSolicitud, int idVacante) {
+		boolean eraAdjudicada = vacanteRepository.reabrirSiAdjudicada(idVacante, idSolicitud) > 0;
+
+		if (eraAdjudicada) {
+			solicitudRepository.deshacerAdjudicacion(idVacante, idSolicitud);
+			eventPublisher.publishEvent(VacanteModificadaEvent.deVacante(idVacante));
+		} else if (solicitudRepository.rechazarPendiente(idVacante, idSolicitud) == 0) {
+			throw new IllegalStateException("La solicitud no está pendiente ni adjudicada");
 		}
-
-		solicitud.setEstado(2);
-		solicitudRepository.save(solicitud);
 	}
 }
@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -17,6 +18,7 @@ import vacantes_api.modelo.dto.EmpresaRegisterRequestDTO;
 import vacantes_api.modelo.dto.RegisterRequestDTO;
 import vacantes_api.modelo.dto.UsuarioPasswordDTO;
 import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.event.UsuarioModificadoEvent;
 import vacantes_api.modelo.repository.IUsuarioRepository;
 
 /**
@@ -36,6 +38,9 @@ public class UsuarioServiceImplMy8 extends GenericoCRUDServiceImplMy8<Usuario, S
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     protected IUsuarioRepository getRepository() {
         return usuarioRepository;
@@ -200,11 +205,40 @@ public class UsuarioServiceImplMy8 extends GenericoCRUDServiceImplMy8<Usuario, S
      * {@inheritDoc}
      */
     @Override
+    @Transactional
     public void cambiarEstadoUsuario(String email, Integer nuevoEstado) {
         Usuario usuario = usuarioRepository.findById(email)
                 .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
 
         usuario.setEnabled(nuevoEstado);
         usuarioRepository.save(usuario);
+        eventPublisher.publishEvent(new UsuarioModificadoEvent(email));
+    }
+
+    /**
+     * Actualiza el usuario y publica un {@link UsuarioModificadoEvent}, ya que
+     * puede haber cambiado su contraseña, rol o estado.
+     *
+     * @param usuario usuario con los datos modificados.
+     * @return usuario actualizado.
+     */
+    @Override
+    @Transactional
+    public Usuario update(Usuario usuario) {
+        Usuario actualizado = super.update(usuario);
+        eventPublisher.publishEvent(new UsuarioModificadoEvent(actualizado.getEmail()));
+        return actualizado;
+    }
+
+    /**
+     * Elimina el usuario y publica un {@link UsuarioModificadoEvent}.
+     *
+     * @param email email del usuario a eliminar.
+     */
+    @Override
+    @Transactional
+    public void delete(String email) {
+        super.delete(email);
+        eventPublisher.publishEvent(new UsuarioModificadoEvent(email));
     }
 }
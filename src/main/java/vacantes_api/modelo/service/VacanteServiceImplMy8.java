@@ -1,15 +1,36 @@
 package vacantes_api.modelo.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
+import vacantes_api.modelo.busqueda.ActualizadorIndiceVacantes;
+import vacantes_api.modelo.busqueda.IndiceVacantes;
+import vacantes_api.modelo.dto.PaginaCursorDTO;
+import vacantes_api.modelo.dto.PaginaDTO;
+import vacantes_api.modelo.dto.VacanteFiltroDTO;
+import vacantes_api.modelo.dto.VacanteResponseDTO;
 import vacantes_api.modelo.entity.Vacante;
+import vacantes_api.modelo.event.VacanteModificadaEvent;
+import vacantes_api.modelo.mapper.VacanteMapper;
 import vacantes_api.modelo.repository.ISolicitudRepository;
 import vacantes_api.modelo.repository.IVacanteRepository;
+import vacantes_api.modelo.repository.VacanteSpecifications;
 
 /**
  * Implementación del servicio {@link IVacanteService} para la gestión
@@ -25,6 +46,18 @@ public class VacanteServiceImplMy8 extends GenericoCRUDServiceImplMy8<Vacante, I
     @Autowired
     private ISolicitudRepository solicitudRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private VacanteMapper vacanteMapper;
+
+    @Autowired
+    private IndiceVacantes indiceVacantes;
+
+    @Autowired
+    private ActualizadorIndiceVacantes actualizadorIndice;
+
     /**
      * {@inheritDoc}
      */
@@ -73,6 +106,172 @@ public class VacanteServiceImplMy8 extends GenericoCRUDServiceImplMy8<Vacante, I
         return vacanteRepository.findByEmpresaNombreEmpresaContainingIgnoreCase(nombreEmpresa);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Vacante> findByEmpresaId(Integer idEmpresa) {
+        return vacanteRepository.findByEmpresaIdEmpresa(idEmpresa);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<VacanteResponseDTO> findAllDTO() {
+        return vacanteRepository.findAllDTO();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<VacanteResponseDTO> findDTOById(Integer idVacante) {
+        return vacanteRepository.findDTOById(idVacante);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<VacanteResponseDTO> findDTOByNombre(String nombre) {
+        return vacanteRepository.findDTOByNombre(nombre);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<VacanteResponseDTO> findDTOByCategoriaNombre(String nombre) {
+        return vacanteRepository.findDTOByCategoriaNombre(nombre);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<VacanteResponseDTO> findDTOByEmpresaNombreEmpresa(String nombreEmpresa) {
+        return vacanteRepository.findDTOByEmpresaNombreEmpresa(nombreEmpresa);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<VacanteResponseDTO> findDTOByEmpresaId(Integer idEmpresa) {
+        return vacanteRepository.findDTOByEmpresaId(idEmpresa);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<VacanteResponseDTO> findDTOBySalario(Double salario) {
+        return vacanteRepository.findDTOBySalario(salario);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Se pide una vacante más de las necesarias para saber si existe página
+     * siguiente sin lanzar un COUNT adicional.
+     */
+    @Override
+    public PaginaCursorDTO<VacanteResponseDTO> findPagina(String after, int limit) {
+        List<VacanteResponseDTO> vacantes;
+        if (after == null || after.isBlank()) {
+            vacantes = vacanteRepository.findPrimeraPagina(Limit.of(limit + 1));
+        } else {
+            String[] cursor = decodificarCursor(after);
+            vacantes = vacanteRepository.findPaginaSiguiente(LocalDate.parse(cursor[0]),
+                    Integer.valueOf(cursor[1]), Limit.of(limit + 1));
+        }
+
+        String siguienteCursor = null;
+        if (vacantes.size() > limit) {
+            vacantes = vacantes.subList(0, limit);
+            siguienteCursor = codificarCursor(vacantes.get(limit - 1));
+        }
+
+        return PaginaCursorDTO.<VacanteResponseDTO>builder()
+                .contenido(vacantes)
+                .limit(limit)
+                .siguienteCursor(siguienteCursor)
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PaginaDTO<VacanteResponseDTO> filtrar(VacanteFiltroDTO filtro, Pageable pageable) {
+        Page<Vacante> pagina = vacanteRepository.findAll(VacanteSpecifications.conFiltro(filtro), pageable);
+        return PaginaDTO.<VacanteResponseDTO>builder()
+                .contenido(vacanteMapper.toDTOList(pagina.getContent()))
+                .pagina(pagina.getNumber())
+                .tamano(pagina.getSize())
+                .totalElementos(pagina.getTotalElements())
+                .totalPaginas(pagina.getTotalPages())
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * El índice devuelve los IDs ordenados por relevancia y los datos se
+     * recuperan con una única consulta {@code IN}, reordenándose después.
+     */
+    @Override
+    public List<VacanteResponseDTO> search(String consulta, int limit) {
+        actualizadorIndice.asegurarConstruido();
+        List<Integer> ids = indiceVacantes.buscar(consulta, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Integer> posiciones = new HashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            posiciones.put(ids.get(i), i);
+        }
+        return vacanteRepository.findDTOByIdIn(ids).stream()
+                .sorted(Comparator.comparing(dto -> posiciones.get(dto.getIdVacante())))
+                .toList();
+    }
+
+    /**
+     * Codifica la posición de una vacante en el listado como cursor opaco
+     * (Base64 URL-safe de "fecha|idVacante").
+     *
+     * @param ultima última vacante de la página actual.
+     * @return cursor para pedir la página siguiente.
+     */
+    private String codificarCursor(VacanteResponseDTO ultima) {
+        String valor = ultima.getFecha() + "|" + ultima.getIdVacante();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor generado por {@link #codificarCursor(VacanteResponseDTO)}.
+     *
+     * @param cursor cursor recibido del cliente.
+     * @return array con la fecha (ISO) y el ID de la vacante.
+     * @throws IllegalArgumentException si el cursor no tiene el formato esperado.
+     */
+    private String[] decodificarCursor(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] partes = valor.split("\\|");
+            if (partes.length != 2) {
+                throw new IllegalArgumentException("Cursor no válido");
+            }
+            LocalDate.parse(partes[0]);
+            Integer.parseInt(partes[1]);
+            return partes;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor no válido", e);
+        }
+    }
+
     /**
      * Sobrescribe el método delete para aplicar lógica de cancelación lógica
      * de la vacante en lugar de eliminarla físicamente, siempre que no tenga
@@ -96,6 +295,21 @@ public class VacanteServiceImplMy8 extends GenericoCRUDServiceImplMy8<Vacante, I
 
         v.setEstatus(Vacante.Estatus.CANCELADA);
         vacanteRepository.save(v);
+        eventPublisher.publishEvent(VacanteModificadaEvent.deVacante(id));
+    }
+
+    /**
+     * Crea la vacante y publica un {@link VacanteModificadaEvent}.
+     *
+     * @param vacante vacante a crear.
+     * @return vacante guardada.
+     */
+    @Override
+    @Transactional
+    public Vacante create(Vacante vacante) {
+        Vacante guardada = super.create(vacante);
+        eventPublisher.publishEvent(VacanteModificadaEvent.deVacante(guardada.getIdVacante()));
+        return guardada;
     }
 
     /**
@@ -118,7 +332,9 @@ public class VacanteServiceImplMy8 extends GenericoCRUDServiceImplMy8<Vacante, I
             solicitudRepository.deleteByVacanteId(nueva.getIdVacante());
         }
 
-        return vacanteRepository.save(nueva);
+        Vacante guardada = vacanteRepository.save(nueva);
+        eventPublisher.publishEvent(VacanteModificadaEvent.deVacante(guardada.getIdVacante()));
+        return guardada;
     }
 
 }
@@ -2,8 +2,8 @@ package vacantes_api.restcontroller;
 
 import java.util.Map;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -14,13 +14,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.Valid;
+import vacantes_api.auth.TokenService;
 import vacantes_api.modelo.dto.LoginRequestDTO;
 import vacantes_api.modelo.dto.LoginResponseDTO;
+import vacantes_api.modelo.dto.RefreshTokenRequestDTO;
 import vacantes_api.modelo.dto.RegisterRequestDTO;
 import vacantes_api.modelo.dto.UsuarioResponseDTO;
 import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.mapper.UsuarioMapper;
 import vacantes_api.modelo.service.IUsuarioService;
 
 /**
@@ -35,13 +39,16 @@ public class AuthRestcontroller {
     private IUsuarioService usuarioService;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private UsuarioMapper usuarioMapper;
+
+    @Autowired
+    private TokenService tokenService;
 
     /**
      * Autentica a un usuario con sus credenciales.
      *
      * @param loginDto Datos de inicio de sesión.
-     * @return Respuesta con los datos del usuario autenticado.
+     * @return Respuesta con los datos del usuario autenticado y sus tokens.
      */
     @PostMapping("/login")
     public ResponseEntity<LoginResponseDTO> login(@RequestBody @Valid LoginRequestDTO loginDto) {
@@ -52,10 +59,24 @@ public class AuthRestcontroller {
 
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
-        LoginResponseDTO response = modelMapper.map(user, LoginResponseDTO.class);
+        LoginResponseDTO response = respuestaConTokens(user);
         return ResponseEntity.status(200).body(response);
     }
 
+    /**
+     * Emite un nuevo par de tokens a partir de un refresh token válido.
+     *
+     * @param dto Refresh token obtenido en el login.
+     * @return Datos del usuario con los nuevos tokens.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponseDTO> refresh(@RequestBody @Valid RefreshTokenRequestDTO dto) {
+        Usuario user = tokenService.validarRefreshToken(dto.getRefreshToken())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token no válido"));
+
+        return ResponseEntity.ok(respuestaConTokens(user));
+    }
+
     /**
      * Cierra la sesión actual del usuario autenticado.
      *
@@ -71,7 +92,7 @@ public class AuthRestcontroller {
      * Registra un nuevo usuario y lo autentica automáticamente.
      *
      * @param dto Datos de registro.
-     * @return Datos del usuario registrado y autenticado.
+     * @return Datos del usuario registrado y autenticado, con sus tokens.
      */
     @PostMapping("/register")
     public ResponseEntity<LoginResponseDTO> register(@RequestBody @Valid RegisterRequestDTO dto) {
@@ -81,7 +102,7 @@ public class AuthRestcontroller {
                 user, null, user.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
-        LoginResponseDTO response = modelMapper.map(user, LoginResponseDTO.class);
+        LoginResponseDTO response = respuestaConTokens(user);
         return ResponseEntity.status(201).body(response);
     }
 
@@ -92,8 +113,9 @@ public class AuthRestcontroller {
      */
     @GetMapping("/me1")
     public ResponseEntity<UsuarioResponseDTO> me() {
-        Usuario user = (Usuario) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        UsuarioResponseDTO dto = modelMapper.map(user, UsuarioResponseDTO.class);
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        Usuario user = usuarioService.findByEmail(email);
+        UsuarioResponseDTO dto = usuarioMapper.toDTO(user);
         return ResponseEntity.status(200).body(dto);
     }
 
@@ -109,7 +131,7 @@ public class AuthRestcontroller {
     public ResponseEntity<UsuarioResponseDTO> me2(Authentication authentication) {
         String email = authentication.getName();
         Usuario user = usuarioService.findByEmail(email);
-        UsuarioResponseDTO userDto = modelMapper.map(user, UsuarioResponseDTO.class);
+        UsuarioResponseDTO userDto = usuarioMapper.toDTO(user);
         return ResponseEntity.status(200).body(userDto);
     }
 
@@ -123,7 +145,22 @@ public class AuthRestcontroller {
     public ResponseEntity<UsuarioResponseDTO> me(Authentication authentication) {
         String email = authentication.getName();
         Usuario user = usuarioService.findByEmail(email);
-        UsuarioResponseDTO userDto = modelMapper.map(user, UsuarioResponseDTO.class);
+        UsuarioResponseDTO userDto = usuarioMapper.toDTO(user);
         return ResponseEntity.ok(userDto);
     }
+
+    /**
+     * Construye la respuesta de login con el token de acceso y el de refresco.
+     *
+     * @param user Usuario autenticado.
+     * @return Respuesta con datos del usuario y tokens.
+     */
+    private LoginResponseDTO respuestaConTokens(Usuario user) {
+        LoginResponseDTO response = usuarioMapper.toLoginDTO(user);
+        response.setAccessToken(tokenService.generarAccessToken(user));
+        response.setRefreshToken(tokenService.generarRefreshToken(user));
+        response.setTokenType("Bearer");
+        response.setExpiresIn(tokenService.getDuracionAccesoSegundos());
+        return response;
+    }
 }
@@ -3,7 +3,6 @@ package vacantes_api.restcontroller;
 import java.util.List;
 import java.util.Map;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -20,6 +19,7 @@ import jakarta.validation.Valid;
 import vacantes_api.modelo.dto.CategoriaRequestDTO;
 import vacantes_api.modelo.dto.CategoriaResponseDTO;
 import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.mapper.CategoriaMapper;
 import vacantes_api.modelo.service.ICategoriaService;
 
 /**
@@ -31,7 +31,7 @@ import vacantes_api.modelo.service.ICategoriaService;
 public class CategoriaRestcontroller {
 
     @Autowired
-    private ModelMapper modelMapper;
+    private CategoriaMapper categoriaMapper;
 
     @Autowired
     private ICategoriaService categoriaService;
@@ -43,10 +43,7 @@ public class CategoriaRestcontroller {
      */
     @GetMapping
     public ResponseEntity<List<CategoriaResponseDTO>> findAll() {
-        List<Categoria> categorias = categoriaService.findAll();
-        List<CategoriaResponseDTO> response = categorias.stream()
-                .map(categoria -> modelMapper.map(categoria, CategoriaResponseDTO.class))
-                .toList();
+        List<CategoriaResponseDTO> response = categoriaService.findAllDTO();
         return ResponseEntity.status(200).body(response);
     }
 
@@ -58,16 +55,12 @@ public class CategoriaRestcontroller {
      */
     @GetMapping("/buscar/{nombre}")
     public ResponseEntity<List<CategoriaResponseDTO>> findByNombre(@PathVariable String nombre) {
-        List<Categoria> categorias = categoriaService.findByName(nombre);
+        List<CategoriaResponseDTO> response = categoriaService.findDTOByName(nombre);
 
-        if (categorias.isEmpty()) {
+        if (response.isEmpty()) {
             throw new RuntimeException("No se encontraron categorías con el nombre: " + nombre);
         }
 
-        List<CategoriaResponseDTO> response = categorias.stream()
-                .map(c -> modelMapper.map(c, CategoriaResponseDTO.class))
-                .toList();
-
         return ResponseEntity.ok(response);
     }
 
@@ -79,10 +72,8 @@ public class CategoriaRestcontroller {
      */
     @GetMapping("/{id}")
     public ResponseEntity<CategoriaResponseDTO> findById(@PathVariable Integer id) {
-        Categoria categoria = categoriaService.read(id)
+        CategoriaResponseDTO response = categoriaService.findDTOById(id)
                 .orElseThrow(() -> new RuntimeException("Categoria con id " + id + " no encontrada"));
-
-        CategoriaResponseDTO response = modelMapper.map(categoria, CategoriaResponseDTO.class);
         return ResponseEntity.status(200).body(response);
     }
 
@@ -100,7 +91,7 @@ public class CategoriaRestcontroller {
                 .build();
 
         Categoria guardada = categoriaService.create(nuevaCategoria);
-        CategoriaResponseDTO response = modelMapper.map(guardada, CategoriaResponseDTO.class);
+        CategoriaResponseDTO response = categoriaMapper.toDTO(guardada);
 
         return ResponseEntity.status(201).body(response);
     }
@@ -123,7 +114,7 @@ public class CategoriaRestcontroller {
         categoria.setDescripcion(dto.getDescripcion());
 
         Categoria actualizada = categoriaService.update(categoria);
-        CategoriaResponseDTO response = modelMapper.map(actualizada, CategoriaResponseDTO.class);
+        CategoriaResponseDTO response = categoriaMapper.toDTO(actualizada);
 
         return ResponseEntity.status(200).body(response);
     }
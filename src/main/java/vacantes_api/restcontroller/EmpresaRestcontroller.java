@@ -1,11 +1,12 @@
 package vacantes_api.restcontroller;
 
-import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -15,16 +16,21 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.Valid;
 import vacantes_api.modelo.dto.EmpresaRegisterRequestDTO;
 import vacantes_api.modelo.dto.EmpresaResponseDTO;
+import vacantes_api.modelo.dto.PaginaDTO;
 import vacantes_api.modelo.dto.UsuarioPasswordDTO;
-import vacantes_api.modelo.dto.VacanteResponseDTO;
 import vacantes_api.modelo.entity.Empresa;
+import vacantes_api.modelo.mapper.EmpresaMapper;
+import vacantes_api.modelo.mapper.VacanteMapper;
 import vacantes_api.modelo.service.IEmpresaService;
 import vacantes_api.modelo.service.IUsuarioService;
+import vacantes_api.modelo.service.IVacanteService;
 
 /**
  * Controlador REST para la gestión de empresas y su registro.
@@ -34,6 +40,8 @@ import vacantes_api.modelo.service.IUsuarioService;
 @RequestMapping("/empresas")
 public class EmpresaRestcontroller {
 
+        private static final int LIMITE_MAXIMO_PAGINA = 100;
+
         @Autowired
         private IEmpresaService empresaService;
 
@@ -41,7 +49,13 @@ public class EmpresaRestcontroller {
         private IUsuarioService usuarioService;
 
         @Autowired
-        private ModelMapper modelMapper;
+        private IVacanteService vacanteService;
+
+        @Autowired
+        private EmpresaMapper empresaMapper;
+
+        @Autowired
+        private VacanteMapper vacanteMapper;
 
         /**
          * Registra una nueva empresa junto a su usuario asociado.
@@ -54,13 +68,8 @@ public class EmpresaRestcontroller {
                 UsuarioPasswordDTO datos = usuarioService.registerEmpresa(dto);
                 Empresa empresa = empresaService.registerEmpresa(dto, datos.getUsuario());
 
-                EmpresaResponseDTO response = modelMapper.map(empresa, EmpresaResponseDTO.class);
-                response.setVacantes(
-                                empresa.getVacantes() != null
-                                                ? empresa.getVacantes().stream()
-                                                                .map(v -> modelMapper.map(v, VacanteResponseDTO.class))
-                                                                .toList()
-                                                : List.of());
+                EmpresaResponseDTO response = empresaMapper.toDTO(empresa);
+                response.setVacantes(vacanteMapper.toDTOList(empresa.getVacantes()));
 
                 return ResponseEntity.status(201).body(
                                 Map.of(
@@ -69,51 +78,33 @@ public class EmpresaRestcontroller {
         }
 
         /**
-         * Lista todas las empresas activas con sus vacantes.
+         * Lista las empresas activas con sus vacantes, paginadas por ID.
          *
-         * @return Lista de empresas activas.
+         * @param page Número de página (desde 0).
+         * @param size Tamaño de página (1-100).
+         * @return Página de empresas activas.
          */
         @GetMapping
         @PreAuthorize("hasAuthority('ROLE_ADMON')")
-        public ResponseEntity<List<EmpresaResponseDTO>> listarEmpresas() {
-                List<EmpresaResponseDTO> response = empresaService.findAll().stream()
-                                .filter(emp -> emp.getUsuario() != null && emp.getUsuario().getEnabled() == 1)
-                                .map(empresa -> {
-                                        EmpresaResponseDTO dto = modelMapper.map(empresa, EmpresaResponseDTO.class);
-                                        dto.setVacantes(Optional.ofNullable(empresa.getVacantes())
-                                                        .orElse(List.of())
-                                                        .stream()
-                                                        .map(vac -> modelMapper.map(vac, VacanteResponseDTO.class))
-                                                        .toList());
-                                        return dto;
-                                })
-                                .toList();
-
-                return ResponseEntity.ok(response);
+        public ResponseEntity<PaginaDTO<EmpresaResponseDTO>> listarEmpresas(
+                        @RequestParam(defaultValue = "0") int page,
+                        @RequestParam(defaultValue = "20") int size) {
+                return ResponseEntity.ok(empresaService.findPaginaByEstado(1, paginaPorId(page, size)));
         }
 
         /**
-         * Lista todas las empresas desactivadas.
+         * Lista las empresas desactivadas con sus vacantes, paginadas por ID.
          *
-         * @return Lista de empresas desactivadas.
+         * @param page Número de página (desde 0).
+         * @param size Tamaño de página (1-100).
+         * @return Página de empresas desactivadas.
          */
         @GetMapping("/desactivadas")
         @PreAuthorize("hasAuthority('ROLE_ADMON')")
-        public ResponseEntity<List<EmpresaResponseDTO>> listarEmpresasDesactivadas() {
-                List<EmpresaResponseDTO> response = empresaService.findAll().stream()
-                                .filter(emp -> emp.getUsuario() != null && emp.getUsuario().getEnabled() == 0)
-                                .map(empresa -> {
-                                        EmpresaResponseDTO dto = modelMapper.map(empresa, EmpresaResponseDTO.class);
-                                        dto.setVacantes(Optional.ofNullable(empresa.getVacantes())
-                                                        .orElse(List.of())
-                                                        .stream()
-                                                        .map(vac -> modelMapper.map(vac, VacanteResponseDTO.class))
-                                                        .toList());
-                                        return dto;
-                                })
-                                .toList();
-
-                return ResponseEntity.ok(response);
+        public ResponseEntity<PaginaDTO<EmpresaResponseDTO>> listarEmpresasDesactivadas(
+                        @RequestParam(defaultValue = "0") int page,
+                        @RequestParam(defaultValue = "20") int size) {
+                return ResponseEntity.ok(empresaService.findPaginaByEstado(0, paginaPorId(page, size)));
         }
 
         /**
@@ -128,13 +119,8 @@ public class EmpresaRestcontroller {
                 Empresa empresa = empresaService.read(id)
                                 .orElseThrow(() -> new RuntimeException("Empresa con id " + id + " no encontrada"));
 
-                EmpresaResponseDTO response = modelMapper.map(empresa, EmpresaResponseDTO.class);
-                response.setVacantes(
-                                Optional.ofNullable(empresa.getVacantes())
-                                                .orElse(List.of())
-                                                .stream()
-                                                .map(vacante -> modelMapper.map(vacante, VacanteResponseDTO.class))
-                                                .toList());
+                EmpresaResponseDTO response = empresaMapper.toDTO(empresa);
+                response.setVacantes(vacanteService.findDTOByEmpresaId(id));
 
                 return ResponseEntity.ok(response);
         }
@@ -152,13 +138,8 @@ public class EmpresaRestcontroller {
                         @RequestBody @Valid EmpresaRegisterRequestDTO dto) {
                 Empresa empresa = empresaService.updateEmpresa(id, dto);
 
-                EmpresaResponseDTO response = modelMapper.map(empresa, EmpresaResponseDTO.class);
-                response.setVacantes(
-                                Optional.ofNullable(empresa.getVacantes())
-                                                .orElse(List.of())
-                                                .stream()
-                                                .map(vacante -> modelMapper.map(vacante, VacanteResponseDTO.class))
-                                                .toList());
+                EmpresaResponseDTO response = empresaMapper.toDTO(empresa);
+                response.setVacantes(vacanteMapper.toDTOList(empresa.getVacantes()));
 
                 return ResponseEntity.ok(response);
         }
@@ -188,4 +169,13 @@ public class EmpresaRestcontroller {
                 empresaService.setEstadoUsuarioEmpresa(id, 1);
                 return ResponseEntity.ok(Map.of("message", "Empresa activada correctamente"));
         }
+
+        private static Pageable paginaPorId(int page, int size) {
+                if (page < 0 || size < 1 || size > LIMITE_MAXIMO_PAGINA) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                                        "El parámetro size debe estar entre 1 y " + LIMITE_MAXIMO_PAGINA
+                                                        + " y page no puede ser negativo");
+                }
+                return PageRequest.of(page, size, Sort.by("idEmpresa"));
+        }
 }
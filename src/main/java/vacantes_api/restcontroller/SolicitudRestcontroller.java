@@ -1,27 +1,35 @@
 package vacantes_api.restcontroller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import vacantes_api.modelo.dto.ImportacionResultadoDTO;
 import vacantes_api.modelo.dto.SolicitudRequestDTO;
 import vacantes_api.modelo.dto.SolicitudResponseDTO;
 import vacantes_api.modelo.entity.Solicitud;
 import vacantes_api.modelo.entity.Usuario;
 import vacantes_api.modelo.entity.Vacante;
+import vacantes_api.modelo.mapper.SolicitudMapper;
+import vacantes_api.modelo.service.IImportacionService;
 import vacantes_api.modelo.service.ISolicitudService;
+import vacantes_api.modelo.service.IUsuarioService;
 import vacantes_api.modelo.service.IVacanteService;
+import vacantes_api.web.ExportadorSolicitudes;
 
 /**
  * Controlador REST para la gestión de solicitudes de vacantes.
@@ -31,8 +39,21 @@ import vacantes_api.modelo.service.IVacanteService;
 @RequestMapping("/solicitudes")
 public class SolicitudRestcontroller {
 
+    /**
+     * La empresa autenticada es propietaria de la vacante {@code idVacante}.
+     */
+    private static final String PROPIETARIO_VACANTE = "hasAuthority('ROLE_EMPRESA') and "
+            + "@autorizacion.esPropietarioDeVacante(#idVacante, authentication.name)";
+
+    /**
+     * La empresa autenticada es propietaria de la vacante de la solicitud
+     * {@code id}.
+     */
+    private static final String PROPIETARIO_SOLICITUD = "hasAuthority('ROLE_EMPRESA') and "
+            + "@autorizacion.esPropietarioDeSolicitud(#id, authentication.name)";
+
     @Autowired
-    private ModelMapper modelMapper;
+    private SolicitudMapper solicitudMapper;
 
     @Autowired
     private ISolicitudService solicitudService;
@@ -40,6 +61,15 @@ public class SolicitudRestcontroller {
     @Autowired
     private IVacanteService vacanteService;
 
+    @Autowired
+    private IUsuarioService usuarioService;
+
+    @Autowired
+    private IImportacionService importacionService;
+
+    @Autowired
+    private ExportadorSolicitudes exportadorSolicitudes;
+
     /**
      * Busca una solicitud por su ID.
      *
@@ -48,23 +78,23 @@ public class SolicitudRestcontroller {
      */
     @GetMapping("/{id}")
     public ResponseEntity<SolicitudResponseDTO> findById(@PathVariable Integer id) {
-        Solicitud solicitud = solicitudService.read(id)
+        SolicitudResponseDTO response = solicitudService.findDTOById(id)
                 .orElseThrow(() -> new RuntimeException("Solicitud no encontrada"));
-
-        SolicitudResponseDTO response = modelMapper.map(solicitud, SolicitudResponseDTO.class);
         return ResponseEntity.status(200).body(response);
     }
 
     /**
      * Crea una nueva solicitud de vacante por parte de un cliente.
      *
-     * @param solicitudDTO Datos de la solicitud.
+     * @param solicitudDTO   Datos de la solicitud.
+     * @param authentication Autenticación del cliente.
      * @return Solicitud creada en formato DTO.
      */
     @PreAuthorize("hasAuthority('ROLE_CLIENTE')")
     @PostMapping
-    public ResponseEntity<SolicitudResponseDTO> create(@RequestBody @Valid SolicitudRequestDTO solicitudDTO) {
-        Usuario usuario = (Usuario) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    public ResponseEntity<SolicitudResponseDTO> create(@RequestBody @Valid SolicitudRequestDTO solicitudDTO,
+            Authentication authentication) {
+        Usuario usuario = usuarioService.findByEmail(authentication.getName());
 
         Vacante vacante = vacanteService.read(solicitudDTO.getIdVacante())
                 .orElseThrow(() -> new RuntimeException("Vacante no encontrada"));
@@ -85,24 +115,41 @@ public class SolicitudRestcontroller {
                 .build();
 
         Solicitud guardada = solicitudService.create(solicitud);
-        SolicitudResponseDTO response = modelMapper.map(guardada, SolicitudResponseDTO.class);
+        SolicitudResponseDTO response = solicitudMapper.toDTO(guardada);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Importa un array JSON de solicitudes (migración de datos históricos). El
+     * cuerpo se procesa en streaming y se guarda en lotes; los lotes ya
+     * confirmados se conservan si la importación falla.
+     *
+     * @param cuerpo Array JSON de solicitudes.
+     * @return Número de solicitudes importadas y de lotes.
+     * @throws IOException si falla la lectura del cuerpo.
+     */
+    @PostMapping(value = "/bulk", consumes = "application/json")
+    @PreAuthorize("hasAuthority('ROLE_ADMON')")
+    public ResponseEntity<ImportacionResultadoDTO> importar(InputStream cuerpo) throws IOException {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(importacionService.importarSolicitudes(cuerpo));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
     /**
      * Obtiene las solicitudes realizadas por el cliente autenticado.
      *
+     * @param authentication Autenticación del cliente.
      * @return Lista de solicitudes propias del usuario.
      */
     @GetMapping("/mis-solicitudes")
     @PreAuthorize("hasAuthority('ROLE_CLIENTE')")
-    public ResponseEntity<List<SolicitudResponseDTO>> getMisSolicitudes() {
-        Usuario usuario = (Usuario) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-
-        List<Solicitud> solicitudes = solicitudService.findByUsuarioEmail(usuario.getEmail());
-
-        List<SolicitudResponseDTO> response = solicitudes.stream()
-                .map(solicitud -> modelMapper.map(solicitud, SolicitudResponseDTO.class)).toList();
+    public ResponseEntity<List<SolicitudResponseDTO>> getMisSolicitudes(Authentication authentication) {
+        List<SolicitudResponseDTO> response = solicitudService.findDTOByUsuarioEmail(authentication.getName());
 
         return ResponseEntity.status(200).body(response);
     }
@@ -111,18 +158,18 @@ public class SolicitudRestcontroller {
      * Cancela una solicitud si aún no ha sido adjudicada y pertenece al cliente
      * autenticado.
      *
-     * @param id ID de la solicitud.
+     * @param id             ID de la solicitud.
+     * @param authentication Autenticación del cliente.
      * @return Mensaje de cancelación.
      */
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAuthority('ROLE_CLIENTE')")
-    public ResponseEntity<Map<String, String>> cancelarSolicitud(@PathVariable Integer id) {
-        Usuario usuario = (Usuario) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-
+    public ResponseEntity<Map<String, String>> cancelarSolicitud(@PathVariable Integer id,
+            Authentication authentication) {
         Solicitud solicitud = solicitudService.read(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Solicitud no encontrada"));
 
-        if (!solicitud.getUsuario().getEmail().equals(usuario.getEmail())) {
+        if (!solicitud.getUsuario().getEmail().equals(authentication.getName())) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "No puedes cancelar esta solicitud");
         }
 
@@ -143,26 +190,40 @@ public class SolicitudRestcontroller {
      * @param idVacante ID de la vacante.
      * @return Lista de solicitudes.
      */
-    @PreAuthorize("hasAuthority('ROLE_EMPRESA')")
+    @PreAuthorize(PROPIETARIO_VACANTE)
     @GetMapping("/vacante/{idVacante}")
     public ResponseEntity<List<SolicitudResponseDTO>> getSolicitudesPorVacante(@PathVariable Integer idVacante) {
-        Usuario empresaUser = (Usuario) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        List<SolicitudResponseDTO> response = solicitudService.findDTOByVacanteId(idVacante);
 
-        Vacante vacante = vacanteService.read(idVacante)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Vacante no encontrada"));
+        return ResponseEntity.ok(response);
+    }
 
-        if (!vacante.getEmpresa().getUsuario().getEmail().equals(empresaUser.getEmail())) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN,
-                    "No tienes permisos para ver las solicitudes de esta vacante");
+    /**
+     * Exporta las solicitudes de una vacante en NDJSON o CSV para la empresa
+     * propietaria. La respuesta se genera en streaming leyendo las solicitudes
+     * con un cursor, sin cargarlas todas en memoria.
+     *
+     * @param idVacante ID de la vacante.
+     * @param formato   Formato de salida: "ndjson" (por defecto) o "csv".
+     * @return Cuerpo de la respuesta que se escribe en streaming.
+     */
+    @PreAuthorize(PROPIETARIO_VACANTE)
+    @GetMapping("/vacante/{idVacante}/export")
+    public ResponseEntity<StreamingResponseBody> exportarSolicitudesPorVacante(@PathVariable Integer idVacante,
+            @RequestParam(defaultValue = "ndjson") String formato) {
+        ExportadorSolicitudes.Formato formatoSalida;
+        try {
+            formatoSalida = ExportadorSolicitudes.Formato.of(formato);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
 
-        List<Solicitud> solicitudes = solicitudService.findByVacante(vacante);
-
-        List<SolicitudResponseDTO> response = solicitudes.stream()
-                .map(s -> modelMapper.map(s, SolicitudResponseDTO.class))
-                .toList();
-
-        return ResponseEntity.ok(response);
+        StreamingResponseBody cuerpo = salida -> exportadorSolicitudes.exportar(idVacante, formatoSalida, salida);
+        return ResponseEntity.ok()
+                .contentType(formatoSalida.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"solicitudes-vacante-"
+                        + idVacante + "." + formatoSalida.getExtension() + "\"")
+                .body(cuerpo);
     }
 
     /**
@@ -172,29 +233,26 @@ public class SolicitudRestcontroller {
      * @return Mensaje de adjudicación con datos del candidato y la vacante.
      */
     @PutMapping("/adjudicar/{id}")
-    @PreAuthorize("hasAuthority('ROLE_EMPRESA')")
+    @PreAuthorize(PROPIETARIO_SOLICITUD)
     public ResponseEntity<Map<String, String>> adjudicarSolicitud(@PathVariable Integer id) {
-        Usuario empresaUser = (Usuario) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-
-        Solicitud solicitud = solicitudService.read(id)
+        SolicitudResponseDTO solicitud = solicitudService.findDTOById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Solicitud no encontrada"));
 
-        if (!solicitud.getVacante().getEmpresa().getUsuario().getEmail().equals(empresaUser.getEmail())) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN,
-                    "No tienes permisos para adjudicar esta solicitud");
-        }
-
         if (solicitud.getEstado() == 1) {
             throw new ResponseStatusException(HttpStatus.CONFLICT,
                     "La solicitud ya fue adjudicada anteriormente");
         }
 
-        solicitudService.adjudicarSolicitud(id);
+        try {
+            solicitudService.adjudicarSolicitud(id);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
 
         return ResponseEntity.ok(Map.of(
                 "message", "Solicitud adjudicada correctamente",
-                "nombreCandidato", solicitud.getUsuario().getNombre(),
-                "nombreVacante", solicitud.getVacante().getNombre()));
+                "nombreCandidato", solicitud.getNombreUsuario(),
+                "nombreVacante", solicitud.getNombreVacante()));
     }
 
     /**
@@ -204,27 +262,24 @@ public class SolicitudRestcontroller {
      * @return Mensaje de rechazo con datos del candidato y la vacante.
      */
     @PutMapping("/rechazar/{id}")
-    @PreAuthorize("hasAuthority('ROLE_EMPRESA')")
+    @PreAuthorize(PROPIETARIO_SOLICITUD)
     public ResponseEntity<Map<String, String>> rechazarSolicitud(@PathVariable Integer id) {
-        Usuario empresaUser = (Usuario) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-
-        Solicitud solicitud = solicitudService.read(id)
+        SolicitudResponseDTO solicitud = solicitudService.findDTOById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Solicitud no encontrada"));
 
-        if (!solicitud.getVacante().getEmpresa().getUsuario().getEmail().equals(empresaUser.getEmail())) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN,
-                    "No tienes permisos para modificar esta solicitud");
-        }
-
         if (solicitud.getEstado() == 2) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "La solicitud ya no está adjudicada");
         }
 
-        solicitudService.rechazarSolicitud(id);
+        try {
+            solicitudService.rechazarSolicitud(id, solicitud.getIdVacante());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
 
         return ResponseEntity.ok(Map.of(
                 "message", "Solicitud rechazada correctamente",
-                "nombreCandidato", solicitud.getUsuario().getNombre(),
-                "nombreVacante", solicitud.getVacante().getNombre()));
+                "nombreCandidato", solicitud.getNombreUsuario(),
+                "nombreVacante", solicitud.getNombreVacante()));
     }
 }
@@ -4,7 +4,6 @@ import java.security.Principal;
 import java.util.List;
 import java.util.Map;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,6 +17,7 @@ import vacantes_api.modelo.dto.UsuarioPerfilUpdateDTO;
 import vacantes_api.modelo.dto.UsuarioRequestDTO;
 import vacantes_api.modelo.dto.UsuarioResponseDTO;
 import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.mapper.UsuarioMapper;
 import vacantes_api.modelo.service.IUsuarioService;
 
 /**
@@ -32,7 +32,7 @@ public class UsuarioRestcontroller {
         private IUsuarioService usuarioService;
 
         @Autowired
-        private ModelMapper modelMapper;
+        private UsuarioMapper usuarioMapper;
 
         @Autowired
         private PasswordEncoder passwordEncoder;
@@ -46,9 +46,7 @@ public class UsuarioRestcontroller {
         @PreAuthorize("hasAuthority('ROLE_ADMON')")
         public ResponseEntity<List<UsuarioResponseDTO>> getUsuarios() {
                 List<Usuario> usuarios = usuarioService.findAll();
-                List<UsuarioResponseDTO> response = usuarios.stream()
-                                .map(usuario -> modelMapper.map(usuario, UsuarioResponseDTO.class))
-                                .toList();
+                List<UsuarioResponseDTO> response = usuarioMapper.toDTOList(usuarios);
                 return ResponseEntity.status(200).body(response);
         }
 
@@ -62,7 +60,7 @@ public class UsuarioRestcontroller {
         public ResponseEntity<UsuarioResponseDTO> getUsuarioById(@PathVariable String email) {
                 Usuario usuario = usuarioService.read(email)
                                 .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
-                UsuarioResponseDTO response = modelMapper.map(usuario, UsuarioResponseDTO.class);
+                UsuarioResponseDTO response = usuarioMapper.toDTO(usuario);
                 return ResponseEntity.status(200).body(response);
         }
 
@@ -75,9 +73,7 @@ public class UsuarioRestcontroller {
         @GetMapping("/buscar/nombre/{nombre}")
         @PreAuthorize("hasAuthority('ROLE_ADMON')")
         public ResponseEntity<List<UsuarioResponseDTO>> buscarPorNombre(@PathVariable String nombre) {
-                List<UsuarioResponseDTO> usuarios = usuarioService.findByNombre(nombre).stream()
-                                .map(u -> modelMapper.map(u, UsuarioResponseDTO.class))
-                                .toList();
+                List<UsuarioResponseDTO> usuarios = usuarioMapper.toDTOList(usuarioService.findByNombre(nombre));
                 return ResponseEntity.ok(usuarios);
         }
 
@@ -90,9 +86,7 @@ public class UsuarioRestcontroller {
         @GetMapping("/buscar/rol/{rol}")
         @PreAuthorize("hasAuthority('ROLE_ADMON')")
         public ResponseEntity<List<UsuarioResponseDTO>> buscarPorRol(@PathVariable String rol) {
-                List<UsuarioResponseDTO> usuarios = usuarioService.findByRol(rol).stream()
-                                .map(u -> modelMapper.map(u, UsuarioResponseDTO.class))
-                                .toList();
+                List<UsuarioResponseDTO> usuarios = usuarioMapper.toDTOList(usuarioService.findByRol(rol));
                 return ResponseEntity.ok(usuarios);
         }
 
@@ -106,9 +100,7 @@ public class UsuarioRestcontroller {
         @GetMapping("/buscar/estado/{estado}")
         @PreAuthorize("hasAuthority('ROLE_ADMON')")
         public ResponseEntity<List<UsuarioResponseDTO>> buscarPorEstado(@PathVariable Integer estado) {
-                List<UsuarioResponseDTO> usuarios = usuarioService.findByEstado(estado).stream()
-                                .map(u -> modelMapper.map(u, UsuarioResponseDTO.class))
-                                .toList();
+                List<UsuarioResponseDTO> usuarios = usuarioMapper.toDTOList(usuarioService.findByEstado(estado));
                 return ResponseEntity.ok(usuarios);
         }
 
@@ -143,7 +135,7 @@ public class UsuarioRestcontroller {
                 Usuario actualizado = builder.build();
                 usuarioService.update(actualizado);
 
-                UsuarioResponseDTO response = modelMapper.map(actualizado, UsuarioResponseDTO.class);
+                UsuarioResponseDTO response = usuarioMapper.toDTO(actualizado);
                 return ResponseEntity.ok(response);
         }
 
@@ -198,7 +190,7 @@ public class UsuarioRestcontroller {
 
                 usuarioService.update(usuario);
 
-                UsuarioResponseDTO response = modelMapper.map(usuario, UsuarioResponseDTO.class);
+                UsuarioResponseDTO response = usuarioMapper.toDTO(usuario);
                 return ResponseEntity.ok(response);
         }
 
@@ -1,27 +1,36 @@
 package vacantes_api.restcontroller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.Valid;
+import vacantes_api.modelo.dto.EmpresaActualDTO;
+import vacantes_api.modelo.dto.ImportacionResultadoDTO;
+import vacantes_api.modelo.dto.PaginaCursorDTO;
+import vacantes_api.modelo.dto.PaginaDTO;
+import vacantes_api.modelo.dto.VacanteFiltroDTO;
 import vacantes_api.modelo.dto.VacanteRequestDTO;
 import vacantes_api.modelo.dto.VacanteResponseDTO;
 import vacantes_api.modelo.entity.Categoria;
-import vacantes_api.modelo.entity.Empresa;
-import vacantes_api.modelo.entity.Usuario;
 import vacantes_api.modelo.entity.Vacante;
+import vacantes_api.modelo.mapper.VacanteMapper;
 import vacantes_api.modelo.service.ICategoriaService;
 import vacantes_api.modelo.service.IEmpresaService;
+import vacantes_api.modelo.service.IImportacionService;
 import vacantes_api.modelo.service.IVacanteService;
+import vacantes_api.web.EmpresaActual;
 
 /**
  * Controlador REST para la gestión de vacantes.
@@ -31,8 +40,12 @@ import vacantes_api.modelo.service.IVacanteService;
 @RequestMapping("/vacantes")
 public class VacanteRestcontroller {
 
+        private static final int LIMITE_MAXIMO_PAGINA = 100;
+
+        private static final Set<String> CAMPOS_ORDENACION = Set.of("fecha", "salario", "nombre", "idVacante");
+
         @Autowired
-        private ModelMapper modelMapper;
+        private VacanteMapper vacanteMapper;
 
         @Autowired
         private IVacanteService vacanteService;
@@ -43,6 +56,9 @@ public class VacanteRestcontroller {
         @Autowired
         private ICategoriaService categoriaService;
 
+        @Autowired
+        private IImportacionService importacionService;
+
         /**
          * Obtiene todas las vacantes registradas.
          *
@@ -50,13 +66,101 @@ public class VacanteRestcontroller {
          */
         @GetMapping
         public ResponseEntity<List<VacanteResponseDTO>> findAll() {
-                List<Vacante> vacantes = vacanteService.findAll();
-                List<VacanteResponseDTO> response = vacantes.stream()
-                                .map(vacante -> modelMapper.map(vacante, VacanteResponseDTO.class))
-                                .toList();
+                List<VacanteResponseDTO> response = vacanteService.findAllDTO();
                 return ResponseEntity.status(200).body(response);
         }
 
+        /**
+         * Obtiene el listado de vacantes paginado por cursor, de la más reciente a
+         * la más antigua. Para pedir la página siguiente se envía como
+         * {@code after} el {@code siguienteCursor} de la respuesta anterior.
+         *
+         * @param limit Número máximo de vacantes por página (1-100).
+         * @param after Cursor de la página anterior (opcional).
+         * @return Página de vacantes con el cursor de la página siguiente.
+         */
+        @GetMapping("/pagina")
+        public ResponseEntity<PaginaCursorDTO<VacanteResponseDTO>> findPagina(
+                        @RequestParam(defaultValue = "20") int limit,
+                        @RequestParam(required = false) String after) {
+                if (limit < 1 || limit > LIMITE_MAXIMO_PAGINA) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                                        "El parámetro limit debe estar entre 1 y " + LIMITE_MAXIMO_PAGINA);
+                }
+
+                try {
+                        return ResponseEntity.ok(vacanteService.findPagina(after, limit));
+                } catch (IllegalArgumentException e) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+                }
+        }
+
+        /**
+         * Filtra vacantes combinando en una sola consulta los criterios
+         * informados: estatus, destacado, idCategoria, idEmpresa, salarioMin,
+         * salarioMax, fechaDesde y fechaHasta (yyyy-MM-dd). Los criterios
+         * omitidos no se aplican.
+         *
+         * @param filtro    Criterios de búsqueda.
+         * @param page      Número de página (desde 0).
+         * @param size      Tamaño de página (1-100).
+         * @param orden     Campo de ordenación (fecha, salario, nombre o
+         *                  idVacante).
+         * @param direccion Dirección de ordenación (asc o desc).
+         * @return Página de vacantes que cumplen todos los criterios.
+         */
+        @GetMapping("/filtro")
+        public ResponseEntity<PaginaDTO<VacanteResponseDTO>> filtrar(VacanteFiltroDTO filtro,
+                        @RequestParam(defaultValue = "0") int page,
+                        @RequestParam(defaultValue = "20") int size,
+                        @RequestParam(defaultValue = "fecha") String orden,
+                        @RequestParam(defaultValue = "desc") String direccion) {
+                if (page < 0 || size < 1 || size > LIMITE_MAXIMO_PAGINA) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                                        "El parámetro size debe estar entre 1 y " + LIMITE_MAXIMO_PAGINA
+                                                        + " y page no puede ser negativo");
+                }
+                if (!CAMPOS_ORDENACION.contains(orden)) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                                        "El parámetro orden debe ser uno de " + CAMPOS_ORDENACION);
+                }
+
+                Sort.Direction sentido;
+                try {
+                        sentido = Sort.Direction.fromString(direccion);
+                } catch (IllegalArgumentException e) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                                        "El parámetro direccion debe ser asc o desc");
+                }
+
+                // El ID desempata para que el orden entre páginas sea estable
+                Sort sort = Sort.by(sentido, orden).and(Sort.by(sentido, "idVacante"));
+                return ResponseEntity.ok(vacanteService.filtrar(filtro, PageRequest.of(page, size, sort)));
+        }
+
+        /**
+         * Búsqueda de texto libre en vacantes ordenada por relevancia. Busca en
+         * nombre, descripción, detalles, categoría y empresa, sin distinguir
+         * mayúsculas ni acentos.
+         *
+         * @param q     Texto a buscar.
+         * @param limit Número máximo de resultados (1-100).
+         * @return Lista de vacantes de la más a la menos relevante.
+         */
+        @GetMapping("/search")
+        public ResponseEntity<List<VacanteResponseDTO>> search(@RequestParam String q,
+                        @RequestParam(defaultValue = "20") int limit) {
+                if (q.isBlank()) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "El parámetro q es obligatorio");
+                }
+                if (limit < 1 || limit > LIMITE_MAXIMO_PAGINA) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                                        "El parámetro limit debe estar entre 1 y " + LIMITE_MAXIMO_PAGINA);
+                }
+
+                return ResponseEntity.ok(vacanteService.search(q, limit));
+        }
+
         /**
          * Obtiene una vacante por su ID.
          *
@@ -65,9 +169,8 @@ public class VacanteRestcontroller {
          */
         @GetMapping("/{id}")
         public ResponseEntity<VacanteResponseDTO> findById(@PathVariable Integer id) {
-                Vacante vacante = vacanteService.read(id)
+                VacanteResponseDTO response = vacanteService.findDTOById(id)
                                 .orElseThrow(() -> new RuntimeException("Vacante no encontrada"));
-                VacanteResponseDTO response = modelMapper.map(vacante, VacanteResponseDTO.class);
                 return ResponseEntity.status(200).body(response);
         }
 
@@ -79,10 +182,7 @@ public class VacanteRestcontroller {
          */
         @GetMapping("/buscar/{nombre}")
         public ResponseEntity<List<VacanteResponseDTO>> findByNombre(@PathVariable String nombre) {
-                List<Vacante> vacantes = vacanteService.findByNombre(nombre);
-                List<VacanteResponseDTO> response = vacantes.stream()
-                                .map(vacante -> modelMapper.map(vacante, VacanteResponseDTO.class))
-                                .toList();
+                List<VacanteResponseDTO> response = vacanteService.findDTOByNombre(nombre);
                 return ResponseEntity.status(200).body(response);
         }
 
@@ -94,10 +194,7 @@ public class VacanteRestcontroller {
          */
         @GetMapping("/categoria/{nombre}")
         public ResponseEntity<List<VacanteResponseDTO>> findByCategoriaNombre(@PathVariable String nombre) {
-                List<Vacante> vacantes = vacanteService.findByCategoriaNombre(nombre);
-                List<VacanteResponseDTO> response = vacantes.stream()
-                                .map(v -> modelMapper.map(v, VacanteResponseDTO.class))
-                                .toList();
+                List<VacanteResponseDTO> response = vacanteService.findDTOByCategoriaNombre(nombre);
                 return ResponseEntity.status(200).body(response);
         }
 
@@ -109,10 +206,7 @@ public class VacanteRestcontroller {
          */
         @GetMapping("/empresa/{nombreEmpresa}")
         public ResponseEntity<List<VacanteResponseDTO>> findByEmpresaNombre(@PathVariable String nombreEmpresa) {
-                List<Vacante> vacantes = vacanteService.findByEmpresaNombreEmpresa(nombreEmpresa);
-                List<VacanteResponseDTO> response = vacantes.stream()
-                                .map(v -> modelMapper.map(v, VacanteResponseDTO.class))
-                                .toList();
+                List<VacanteResponseDTO> response = vacanteService.findDTOByEmpresaNombreEmpresa(nombreEmpresa);
                 return ResponseEntity.status(200).body(response);
         }
 
@@ -124,42 +218,33 @@ public class VacanteRestcontroller {
          */
         @GetMapping("/salario/{salario}")
         public ResponseEntity<List<VacanteResponseDTO>> findBySalario(@PathVariable Double salario) {
-                List<Vacante> vacantes = vacanteService.findBySalario(salario);
-                List<VacanteResponseDTO> dto = vacantes.stream()
-                                .map(v -> modelMapper.map(v, VacanteResponseDTO.class))
-                                .toList();
+                List<VacanteResponseDTO> dto = vacanteService.findDTOBySalario(salario);
                 return ResponseEntity.ok(dto);
         }
 
         /**
          * Obtiene las vacantes publicadas por la empresa logueada.
          *
+         * @param empresa Empresa del usuario autenticado.
          * @return Lista de vacantes propias.
          */
         @GetMapping("/propias")
-        public ResponseEntity<List<VacanteResponseDTO>> findVacantesPropias() {
-                Usuario empresaUser = (Usuario) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-                Empresa empresa = empresaService.findByUsuarioEmail(empresaUser.getEmail())
-                                .orElseThrow(() -> new RuntimeException("Empresa no encontrada"));
-                List<Vacante> vacantesPropias = empresa.getVacantes();
-                List<VacanteResponseDTO> response = vacantesPropias.stream()
-                                .map(v -> modelMapper.map(v, VacanteResponseDTO.class))
-                                .toList();
+        public ResponseEntity<List<VacanteResponseDTO>> findVacantesPropias(@EmpresaActual EmpresaActualDTO empresa) {
+                List<VacanteResponseDTO> response = vacanteService.findDTOByEmpresaId(empresa.getIdEmpresa());
                 return ResponseEntity.status(200).body(response);
         }
 
         /**
          * Crea una nueva vacante para la empresa logueada.
          *
-         * @param dto Datos de la vacante.
+         * @param dto     Datos de la vacante.
+         * @param empresa Empresa del usuario autenticado.
          * @return Vacante creada.
          */
         @PostMapping
         @PreAuthorize("hasAuthority('ROLE_EMPRESA')")
-        public ResponseEntity<VacanteResponseDTO> create(@RequestBody @Valid VacanteRequestDTO dto) {
-                Usuario empresaUser = (Usuario) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-                Empresa empresa = empresaService.findByUsuarioEmail(empresaUser.getEmail())
-                                .orElseThrow(() -> new RuntimeException("Empresa no encontrada"));
+        public ResponseEntity<VacanteResponseDTO> create(@RequestBody @Valid VacanteRequestDTO dto,
+                        @EmpresaActual EmpresaActualDTO empresa) {
                 Categoria categoria = categoriaService.read(dto.getIdCategoria())
                                 .orElseThrow(() -> new RuntimeException("Categoría no encontrada"));
 
@@ -173,29 +258,51 @@ public class VacanteRestcontroller {
                                 .imagen(dto.getImagen())
                                 .detalles(dto.getDetalles())
                                 .categoria(categoria)
-                                .empresa(empresa)
+                                .empresa(empresaService.getReferencia(empresa.getIdEmpresa()))
                                 .build();
 
                 Vacante guardada = vacanteService.create(vacante);
-                VacanteResponseDTO response = modelMapper.map(guardada, VacanteResponseDTO.class);
+                VacanteResponseDTO response = vacanteMapper.toDTO(guardada);
                 return ResponseEntity.status(201).body(response);
         }
 
+        /**
+         * Importa un array JSON de vacantes para la empresa logueada. El cuerpo
+         * se procesa en streaming y se guarda en lotes; si un elemento no es
+         * válido se responde 400 y los lotes anteriores quedan guardados.
+         *
+         * @param cuerpo  Array JSON de vacantes con el formato de creación.
+         * @param empresa Empresa del usuario autenticado.
+         * @return Número de vacantes importadas y de lotes.
+         * @throws IOException si falla la lectura del cuerpo.
+         */
+        @PostMapping(value = "/bulk", consumes = "application/json")
+        @PreAuthorize("hasAuthority('ROLE_EMPRESA')")
+        public ResponseEntity<ImportacionResultadoDTO> importar(InputStream cuerpo,
+                        @EmpresaActual EmpresaActualDTO empresa) throws IOException {
+                try {
+                        return ResponseEntity.status(201).body(importacionService.importarVacantes(cuerpo,
+                                        empresaService.getReferencia(empresa.getIdEmpresa())));
+                } catch (IllegalArgumentException e) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+                } catch (IllegalStateException e) {
+                        throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+                }
+        }
+
         /**
          * Actualiza una vacante existente publicada por la empresa logueada.
          *
-         * @param id  ID de la vacante.
-         * @param dto Nuevos datos de la vacante.
+         * @param id      ID de la vacante.
+         * @param dto     Nuevos datos de la vacante.
+         * @param empresa Empresa del usuario autenticado.
          * @return Vacante actualizada.
          */
         @PutMapping("/{id}")
         @PreAuthorize("hasAuthority('ROLE_EMPRESA')")
         public ResponseEntity<VacanteResponseDTO> update(@PathVariable Integer id,
-                        @RequestBody @Valid VacanteRequestDTO dto) {
-                Usuario empresaUser = (Usuario) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-                Empresa empresa = empresaService.findByUsuarioEmail(empresaUser.getEmail())
-                                .orElseThrow(() -> new RuntimeException("Empresa no encontrada"));
-
+                        @RequestBody @Valid VacanteRequestDTO dto,
+                        @EmpresaActual EmpresaActualDTO empresa) {
                 Vacante vacante = vacanteService.read(id)
                                 .orElseThrow(() -> new RuntimeException("Vacante no encontrada"));
 
@@ -220,7 +327,7 @@ public class VacanteRestcontroller {
                                 .build();
 
                 Vacante guardada = vacanteService.update(actualizada);
-                VacanteResponseDTO response = modelMapper.map(guardada, VacanteResponseDTO.class);
+                VacanteResponseDTO response = vacanteMapper.toDTO(guardada);
                 return ResponseEntity.status(200).body(response);
         }
 
@@ -228,15 +335,14 @@ public class VacanteRestcontroller {
          * Elimina una vacante publicada por la empresa logueada (cambio de estado a
          * CANCELADA).
          *
-         * @param id ID de la vacante.
+         * @param id      ID de la vacante.
+         * @param empresa Empresa del usuario autenticado.
          * @return Mensaje de confirmación.
          */
         @DeleteMapping("/{id}")
         @PreAuthorize("hasAuthority('ROLE_EMPRESA')")
-        public ResponseEntity<Map<String, String>> delete(@PathVariable Integer id) {
-                Usuario empresaUser = (Usuario) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-                Empresa empresa = empresaService.findByUsuarioEmail(empresaUser.getEmail())
-                                .orElseThrow(() -> new RuntimeException("Empresa no encontrada"));
+        public ResponseEntity<Map<String, String>> delete(@PathVariable Integer id,
+                        @EmpresaActual EmpresaActualDTO empresa) {
                 Vacante vacante = vacanteService.read(id)
                                 .orElseThrow(() -> new RuntimeException("Vacante no encontrada"));
 
@@ -0,0 +1,18 @@
+package vacantes_api.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca un parámetro {@link vacantes_api.modelo.dto.EmpresaActualDTO} de un
+ * controlador para recibir la empresa del usuario autenticado. Lo resuelve
+ * {@link EmpresaActualArgumentResolver}.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface EmpresaActual {
+}
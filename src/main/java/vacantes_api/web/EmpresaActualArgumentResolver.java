@@ -0,0 +1,61 @@
+package vacantes_api.web;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.server.ResponseStatusException;
+
+import vacantes_api.auth.EmpresaActualCache;
+import vacantes_api.modelo.dto.EmpresaActualDTO;
+
+/**
+ * Resuelve los parámetros anotados con {@link EmpresaActual} a partir del
+ * usuario autenticado, usando {@link EmpresaActualCache} en lugar de cargar la
+ * empresa en cada petición.
+ * <p>
+ * Si el usuario no está autenticado o no tiene empresa asociada se responde
+ * 403.
+ */
+@Component
+public class EmpresaActualArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final EmpresaActualCache empresaActualCache;
+
+    /**
+     * Crea el resolutor.
+     *
+     * @param empresaActualCache caché de empresas por usuario.
+     */
+    public EmpresaActualArgumentResolver(EmpresaActualCache empresaActualCache) {
+        this.empresaActualCache = empresaActualCache;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(EmpresaActual.class)
+                && EmpresaActualDTO.class.equals(parameter.getParameterType());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EmpresaActualDTO resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Empresa no encontrada");
+        }
+        return empresaActualCache.obtener(authentication.getName())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "Empresa no encontrada"));
+    }
+}
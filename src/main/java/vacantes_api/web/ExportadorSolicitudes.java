@@ -0,0 +1,178 @@
+package vacantes_api.web;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import vacantes_api.modelo.dto.SolicitudResponseDTO;
+import vacantes_api.modelo.service.ISolicitudService;
+
+/**
+ * Exportación de las solicitudes de una vacante en NDJSON (un objeto JSON por
+ * línea) o CSV.
+ * <p>
+ * Las solicitudes se leen con un cursor mediante
+ * {@link ISolicitudService#forEachDTOByVacanteId} y cada fila se escribe en la
+ * respuesta en cuanto se recibe, de modo que la memoria usada no depende del
+ * número de solicitudes de la vacante.
+ */
+@Component
+public class ExportadorSolicitudes {
+
+    /**
+     * Formatos de exportación admitidos.
+     */
+    public enum Formato {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final MediaType mediaType;
+
+        private final String extension;
+
+        Formato(String mediaType, String extension) {
+            this.mediaType = MediaType.parseMediaType(mediaType + ";charset=UTF-8");
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Obtiene el formato a partir de su nombre, sin distinguir mayúsculas.
+         *
+         * @param nombre nombre del formato ("ndjson" o "csv").
+         * @return formato correspondiente.
+         * @throws IllegalArgumentException si el formato no está soportado.
+         */
+        public static Formato of(String nombre) {
+            for (Formato formato : values()) {
+                if (formato.extension.equalsIgnoreCase(nombre)) {
+                    return formato;
+                }
+            }
+            throw new IllegalArgumentException("Formato de exportación no soportado: " + nombre);
+        }
+    }
+
+    private static final String CABECERA_CSV = "idSolicitud,fecha,estado,archivo,curriculum,comentarios,"
+            + "idVacante,nombreVacante,nombreEmpresa,categoriaVacante,"
+            + "emailUsuario,nombreUsuario,apellidosUsuario";
+
+    /**
+     * Caracteres iniciales con los que una hoja de cálculo trata una celda
+     * como fórmula.
+     */
+    private static final String INICIO_FORMULA = "=+-@\t\r";
+
+    private final ISolicitudService solicitudService;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Crea el exportador.
+     *
+     * @param solicitudService servicio de solicitudes.
+     * @param objectMapper     serializador JSON de la aplicación.
+     */
+    public ExportadorSolicitudes(ISolicitudService solicitudService, ObjectMapper objectMapper) {
+        this.solicitudService = solicitudService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Escribe las solicitudes de una vacante en el formato indicado.
+     *
+     * @param idVacante ID de la vacante.
+     * @param formato   formato de salida.
+     * @param salida    flujo de salida; no se cierra.
+     * @throws IOException si falla la escritura.
+     */
+    public void exportar(Integer idVacante, Formato formato, OutputStream salida) throws IOException {
+        try {
+            if (formato == Formato.CSV) {
+                exportarCsv(idVacante, salida);
+            } else {
+                exportarNdjson(idVacante, salida);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void exportarNdjson(Integer idVacante, OutputStream salida) throws IOException {
+        solicitudService.forEachDTOByVacanteId(idVacante, solicitud -> {
+            try {
+                salida.write(objectMapper.writeValueAsBytes(solicitud));
+                salida.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        salida.flush();
+    }
+
+    private void exportarCsv(Integer idVacante, OutputStream salida) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8));
+        writer.write(CABECERA_CSV);
+        writer.write("\r\n");
+        solicitudService.forEachDTOByVacanteId(idVacante, solicitud -> {
+            try {
+                escribirFilaCsv(writer, solicitud);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private void escribirFilaCsv(Writer writer, SolicitudResponseDTO s) throws IOException {
+        Object[] campos = { s.getIdSolicitud(), s.getFecha(), s.getEstado(), s.getArchivo(), s.getCurriculum(),
+                s.getComentarios(), s.getIdVacante(), s.getNombreVacante(), s.getNombreEmpresa(),
+                s.getCategoriaVacante(), s.getEmailUsuario(), s.getNombreUsuario(), s.getApellidosUsuario() };
+        for (int i = 0; i < campos.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(campoCsv(campos[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Escapa un valor según RFC 4180: se entrecomilla si contiene comas,
+     * comillas o saltos de línea, duplicando las comillas internas.
+     * <p>
+     * Los textos que empiezan por {@code = + - @}, tabulador o retorno de carro
+     * se prefijan con un apóstrofo para que las hojas de cálculo no los
+     * interpreten como fórmulas (inyección CSV). Los números no se alteran.
+     */
+    static String campoCsv(Object valor) {
+        if (valor == null) {
+            return "";
+        }
+        String texto = valor.toString();
+        if (valor instanceof CharSequence && !texto.isEmpty() && INICIO_FORMULA.indexOf(texto.charAt(0)) >= 0) {
+            texto = "'" + texto;
+        }
+        if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0 && texto.indexOf('\n') < 0
+                && texto.indexOf('\r') < 0) {
+            return texto;
+        }
+        return '"' + texto.replace("\"", "\"\"") + '"';
+    }
+}
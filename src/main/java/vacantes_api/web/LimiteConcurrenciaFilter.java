@@ -0,0 +1,113 @@
+package vacantes_api.web;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import vacantes_api.config.LimitadorConcurrencia;
+
+/**
+ * Acota las peticiones que se procesan a la vez en el modo de hilos virtuales.
+ * <p>
+ * Si no hay permiso libre tras la espera máxima del
+ * {@link LimitadorConcurrencia} se responde 503 con {@code Retry-After}, en
+ * lugar de dejar que la petición bloquee un hilo esperando una conexión de la
+ * base de datos. Se registra desde {@link vacantes_api.config.EjecucionConfig}
+ * después de la seguridad y de {@link RespuestaCacheFilter}, de modo que las
+ * respuestas servidas desde caché no consumen permisos.
+ * <p>
+ * En las peticiones asíncronas el permiso se conserva hasta que termina el
+ * procesamiento asíncrono.
+ */
+public class LimiteConcurrenciaFilter extends OncePerRequestFilter {
+
+    private final LimitadorConcurrencia limitador;
+
+    /**
+     * Crea el filtro.
+     *
+     * @param limitador limitador de peticiones.
+     */
+    public LimiteConcurrenciaFilter(LimitadorConcurrencia limitador) {
+        this.limitador = limitador;
+    }
+
+    /**
+     * No se limitan las comprobaciones de salud.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length()).startsWith("/actuator/health");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!limitador.adquirir()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Servidor ocupado, inténtelo de nuevo");
+            return;
+        }
+        boolean asincrona = false;
+        try {
+            filterChain.doFilter(request, response);
+            asincrona = request.isAsyncStarted();
+        } finally {
+            if (asincrona) {
+                request.getAsyncContext().addListener(new LiberarAlTerminar());
+            } else {
+                limitador.liberar();
+            }
+        }
+    }
+
+    /**
+     * Libera el permiso de una petición asíncrona (por ejemplo una exportación
+     * con {@code StreamingResponseBody}) cuando termina, y no al volver del
+     * primer despacho: mientras escribe la respuesta sigue reteniendo su
+     * transacción y su conexión. {@code onComplete} llega también tras un
+     * error o un timeout, por lo que se libera solo una vez.
+     */
+    private class LiberarAlTerminar implements AsyncListener {
+
+        private final AtomicBoolean liberado = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void liberar() {
+            if (liberado.compareAndSet(false, true)) {
+                limitador.liberar();
+            }
+        }
+    }
+}
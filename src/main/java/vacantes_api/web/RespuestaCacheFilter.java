@@ -0,0 +1,184 @@
+package vacantes_api.web;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import vacantes_api.modelo.event.VacanteModificadaEvent;
+
+/**
+ * Caché de respuestas para los GET públicos de {@code /vacantes}.
+ * <p>
+ * Guarda el JSON ya serializado de cada URL (ruta y query string) junto con un
+ * ETag fuerte calculado como SHA-256 del cuerpo. Las peticiones repetidas se
+ * responden desde memoria sin consultar la base de datos ni serializar, y si
+ * el cliente envía un {@code If-None-Match} coincidente se devuelve 304 sin
+ * cuerpo.
+ * <p>
+ * Cada {@link VacanteModificadaEvent} incrementa la generación de la caché; las
+ * entradas de generaciones anteriores dejan de servirse, incluidas las que
+ * estuvieran calculándose mientras se producía el cambio.
+ * {@code /vacantes/propias} depende del usuario y queda excluida.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class RespuestaCacheFilter extends OncePerRequestFilter {
+
+    private static final String PREFIJO = "/vacantes";
+
+    private static final String EXCLUIDA = "/vacantes/propias";
+
+    private final Cache<String, RespuestaCacheada> cache;
+
+    private final AtomicLong generacion = new AtomicLong();
+
+    /**
+     * Crea el filtro con la caché configurada.
+     *
+     * @param ttl          tiempo máximo que se conserva una respuesta.
+     * @param tamanoMaximo número máximo de respuestas en caché.
+     */
+    public RespuestaCacheFilter(
+            @Value("${vacantes.respuestas.cache.ttl:PT10M}") Duration ttl,
+            @Value("${vacantes.respuestas.cache.tamano-maximo:1000}") long tamanoMaximo) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(tamanoMaximo)
+                .build();
+    }
+
+    /**
+     * Solo se filtran los GET públicos de vacantes.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String ruta = request.getRequestURI().substring(request.getContextPath().length());
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !(ruta.equals(PREFIJO) || ruta.startsWith(PREFIJO + "/"))
+                || ruta.equals(EXCLUIDA);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clave = request.getQueryString() == null
+                ? request.getRequestURI()
+                : request.getRequestURI() + "?" + request.getQueryString();
+        long generacionActual = generacion.get();
+
+        RespuestaCacheada cacheada = cache.getIfPresent(clave);
+        if (cacheada != null && cacheada.getGeneracion() == generacionActual) {
+            escribir(request, response, cacheada);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        if (wrapper.getStatus() != HttpStatus.OK.value()) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] cuerpo = wrapper.getContentAsByteArray();
+        RespuestaCacheada nueva = new RespuestaCacheada(cuerpo, calcularEtag(cuerpo), wrapper.getContentType(),
+                generacionActual);
+        if (generacion.get() == generacionActual) {
+            cache.put(clave, nueva);
+        }
+
+        wrapper.resetBuffer();
+        escribir(request, wrapper, nueva);
+        wrapper.copyBodyToResponse();
+    }
+
+    /**
+     * Invalida todas las respuestas cacheadas una vez confirmado el cambio.
+     *
+     * @param evento evento de modificación de vacantes.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVacanteModificada(VacanteModificadaEvent evento) {
+        generacion.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Escribe la respuesta cacheada, o un 304 si el cliente ya tiene esa
+     * versión.
+     */
+    private void escribir(HttpServletRequest request, HttpServletResponse response, RespuestaCacheada cacheada)
+            throws IOException {
+        response.setHeader(HttpHeaders.ETAG, cacheada.getEtag());
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && coincide(ifNoneMatch, cacheada.getEtag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(cacheada.getContentType());
+        response.setContentLength(cacheada.getCuerpo().length);
+        response.getOutputStream().write(cacheada.getCuerpo());
+    }
+
+    private static boolean coincide(String ifNoneMatch, String etag) {
+        return ifNoneMatch.trim().equals("*")
+                || Arrays.stream(ifNoneMatch.split(",")).map(String::trim).anyMatch(etag::equals);
+    }
+
+    private static String calcularEtag(byte[] cuerpo) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(cuerpo);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    /**
+     * Respuesta serializada junto con su ETag y la generación en que se
+     * calculó.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class RespuestaCacheada {
+
+        private final byte[] cuerpo;
+
+        private final String etag;
+
+        private final String contentType;
+
+        private final long generacion;
+    }
+}
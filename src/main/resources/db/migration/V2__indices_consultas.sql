@@ -0,0 +1,23 @@
+-- Índices para los accesos de los repositorios que filtran por columnas sin
+-- índice. Las claves ajenas (id_Categoria, id_empresa, email) ya tienen índice.
+
+-- IVacanteRepository: findBySalarioGreaterThanEqual / findDTOBySalario y rango
+-- de salario del filtro combinado
+CREATE INDEX idx_vacantes_salario ON Vacantes (salario);
+
+-- Filtro combinado por estatus ordenado por fecha
+CREATE INDEX idx_vacantes_estatus_fecha ON Vacantes (estatus, fecha, id_vacante);
+
+-- Paginación por cursor (ORDER BY fecha DESC, id_vacante DESC) y rango de fechas
+CREATE INDEX idx_vacantes_fecha ON Vacantes (fecha, id_vacante);
+
+-- IUsuarioRepository: findByRol y findByEnabled
+CREATE INDEX idx_usuarios_rol_enabled ON Usuarios (rol, enabled);
+CREATE INDEX idx_usuarios_enabled ON Usuarios (enabled);
+
+-- ISolicitudRepository: existsByVacanteIdVacanteAndEstado, rejectOthers y
+-- resetAllEstado
+CREATE INDEX idx_solicitudes_vacante_estado ON Solicitudes (id_Vacante, estado);
+
+-- IEmpresaRepository: findByUsuarioEmail (una empresa por usuario)
+CREATE UNIQUE INDEX uk_empresas_email ON Empresas (email);
@@ -0,0 +1,15 @@
+-- Generador de IDs por bloques para Vacantes y Solicitudes (GenerationType.TABLE
+-- con optimizador pooled-lo): siguiente_id es el primer ID del próximo bloque.
+-- A partir de esta versión las filas de estas tablas deben insertarse a través
+-- de la aplicación; un INSERT directo con AUTO_INCREMENT puede ocupar un ID ya
+-- reservado por un bloque.
+CREATE TABLE id_generadores (
+  entidad varchar(50) NOT NULL PRIMARY KEY,
+  siguiente_id bigint NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT INTO id_generadores (entidad, siguiente_id)
+SELECT 'vacantes', COALESCE(MAX(id_vacante), 0) + 1 FROM Vacantes;
+
+INSERT INTO id_generadores (entidad, siguiente_id)
+SELECT 'solicitudes', COALESCE(MAX(id_solicitud), 0) + 1 FROM Solicitudes;
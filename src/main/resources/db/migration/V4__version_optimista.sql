@@ -0,0 +1,5 @@
+-- Columna de versión para el bloqueo optimista (@Version) de Vacantes y
+-- Solicitudes; las filas existentes empiezan en la versión 0.
+ALTER TABLE Vacantes ADD COLUMN version int NOT NULL DEFAULT 0;
+
+ALTER TABLE Solicitudes ADD COLUMN version int NOT NULL DEFAULT 0;
@@ -0,0 +1,91 @@
+package vacantes_api.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.event.UsuarioModificadoEvent;
+
+/**
+ * Comprueba que {@link CachingAuthenticationProvider} solo consulta la base de
+ * datos y BCrypt la primera vez que se presentan unas credenciales válidas.
+ */
+class CachingAuthenticationProviderTest {
+
+    private static final String EMAIL = "cliente@email.com";
+
+    private UserDetailsService userDetailsService;
+
+    private PasswordEncoder passwordEncoder;
+
+    private AutenticacionesCache cache;
+
+    private CachingAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = mock(UserDetailsService.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(Usuario.builder()
+                .email(EMAIL)
+                .password("hash")
+                .enabled(1)
+                .rol("CLIENTE")
+                .build());
+        when(passwordEncoder.matches("secreta", "hash")).thenReturn(true);
+
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider(passwordEncoder);
+        dao.setUserDetailsService(userDetailsService);
+        cache = new AutenticacionesCache(Duration.ofMinutes(5), 100);
+        provider = new CachingAuthenticationProvider(dao, cache);
+    }
+
+    @Test
+    void credencialesRepetidasNoVuelvenAVerificarse() {
+        Authentication primera = provider.authenticate(token("secreta"));
+        Authentication segunda = provider.authenticate(token("secreta"));
+
+        assertThat(segunda.isAuthenticated()).isTrue();
+        assertThat(segunda.getPrincipal()).isEqualTo(EMAIL);
+        assertThat(segunda).isNotSameAs(primera);
+        assertThat(segunda.getAuthorities()).isEqualTo(primera.getAuthorities());
+        verify(userDetailsService, times(1)).loadUserByUsername(EMAIL);
+        verify(passwordEncoder, times(1)).matches("secreta", "hash");
+    }
+
+    @Test
+    void credencialesIncorrectasNoSeCachean() {
+        assertThatThrownBy(() -> provider.authenticate(token("otra"))).isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> provider.authenticate(token("otra"))).isInstanceOf(BadCredentialsException.class);
+
+        verify(passwordEncoder, times(2)).matches("otra", "hash");
+    }
+
+    @Test
+    void modificarUsuarioInvalidaSusEntradas() {
+        provider.authenticate(token("secreta"));
+        cache.onUsuarioModificado(new UsuarioModificadoEvent(EMAIL));
+        provider.authenticate(token("secreta"));
+
+        verify(userDetailsService, times(2)).loadUserByUsername(EMAIL);
+    }
+
+    private UsernamePasswordAuthenticationToken token(String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, password);
+    }
+}
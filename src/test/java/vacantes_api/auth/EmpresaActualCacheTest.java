@@ -0,0 +1,52 @@
+package vacantes_api.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import vacantes_api.modelo.dto.EmpresaActualDTO;
+import vacantes_api.modelo.event.UsuarioModificadoEvent;
+import vacantes_api.modelo.service.IEmpresaService;
+
+/**
+ * Comprueba que {@link EmpresaActualCache} consulta la empresa una sola vez por
+ * usuario hasta que se modifica.
+ */
+class EmpresaActualCacheTest {
+
+    private static final String EMAIL = "empresa@email.com";
+
+    private final IEmpresaService empresaService = mock(IEmpresaService.class);
+
+    private final EmpresaActualCache cache = new EmpresaActualCache(empresaService, Duration.ofMinutes(5), 100);
+
+    @Test
+    void consultaUnaVezHastaQueSeModificaElUsuario() {
+        when(empresaService.findEmpresaActual(EMAIL))
+                .thenReturn(Optional.of(new EmpresaActualDTO(EMAIL, 7, "EMPRESA", 1)));
+
+        assertThat(cache.obtener(EMAIL)).map(EmpresaActualDTO::getIdEmpresa).contains(7);
+        assertThat(cache.obtener(EMAIL)).map(EmpresaActualDTO::getIdEmpresa).contains(7);
+        verify(empresaService, times(1)).findEmpresaActual(EMAIL);
+
+        cache.onUsuarioModificado(new UsuarioModificadoEvent(EMAIL));
+        cache.obtener(EMAIL);
+        verify(empresaService, times(2)).findEmpresaActual(EMAIL);
+    }
+
+    @Test
+    void noCacheaUsuariosSinEmpresa() {
+        when(empresaService.findEmpresaActual(EMAIL)).thenReturn(Optional.empty());
+
+        assertThat(cache.obtener(EMAIL)).isEmpty();
+        assertThat(cache.obtener(EMAIL)).isEmpty();
+        verify(empresaService, times(2)).findEmpresaActual(EMAIL);
+    }
+}
@@ -0,0 +1,80 @@
+package vacantes_api.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Pruebas de {@link PasswordEncoderAcotado} con un codificador que se bloquea
+ * hasta que la prueba lo libera.
+ */
+class PasswordEncoderAcotadoTest {
+
+    private final CountDownLatch liberar = new CountDownLatch(1);
+
+    private final CountDownLatch iniciado = new CountDownLatch(1);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final PasswordEncoderAcotado encoder = new PasswordEncoderAcotado(new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            iniciado.countDown();
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hash:" + rawPassword);
+        }
+    }, 1, 1, registry);
+
+    @AfterEach
+    void tearDown() {
+        liberar.countDown();
+        encoder.close();
+    }
+
+    @Test
+    void delegaEnElCodificadorYMideLaDuracion() {
+        liberar.countDown();
+
+        assertThat(encoder.encode("secreta")).isEqualTo("hash:secreta");
+        assertThat(encoder.matches("secreta", "hash:secreta")).isTrue();
+        assertThat(registry.get("vacantes.bcrypt.duracion").tag("operacion", "encode").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("vacantes.bcrypt.duracion").tag("operacion", "matches").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void colaLlenaRechazaSinEsperar() throws Exception {
+        CompletableFuture<String> enCurso = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        assertThat(iniciado.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> enCola = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        while (registry.get("vacantes.bcrypt.cola").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> encoder.encode("c")).isInstanceOf(HashingSaturadoException.class);
+        assertThat(registry.get("vacantes.bcrypt.rechazos").counter().count()).isEqualTo(1);
+
+        liberar.countDown();
+        assertThat(enCurso.get(5, TimeUnit.SECONDS)).isEqualTo("hash:a");
+        assertThat(enCola.get(5, TimeUnit.SECONDS)).isEqualTo("hash:b");
+    }
+}
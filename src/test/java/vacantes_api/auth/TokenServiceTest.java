@@ -0,0 +1,111 @@
+package vacantes_api.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.event.UsuarioModificadoEvent;
+import vacantes_api.modelo.repository.IUsuarioRepository;
+
+/**
+ * Pruebas de emisión y validación de tokens de {@link TokenService}.
+ */
+class TokenServiceTest {
+
+    private static final String SECRETO = "secreto-de-pruebas-de-al-menos-32-bytes";
+
+    private static final Instant AHORA = Instant.parse("2025-01-01T10:00:00Z");
+
+    private IUsuarioRepository usuarioRepository;
+
+    private Usuario usuario;
+
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        usuarioRepository = mock(IUsuarioRepository.class);
+        usuario = Usuario.builder()
+                .email("empresa@email.com")
+                .nombre("Empresa")
+                .password("hash")
+                .enabled(1)
+                .rol("EMPRESA")
+                .build();
+        when(usuarioRepository.findById(usuario.getEmail())).thenReturn(Optional.of(usuario));
+
+        tokenService = servicioEn(AHORA);
+    }
+
+    @Test
+    void accessTokenValidoDevuelveEmailYRol() {
+        Optional<TokenService.ClaimsAcceso> principal = tokenService
+                .validarAccessToken(tokenService.generarAccessToken(usuario));
+
+        assertThat(principal).isPresent();
+        assertThat(principal.get().getEmail()).isEqualTo("empresa@email.com");
+        assertThat(principal.get().getAuthorities())
+                .extracting(a -> a.getAuthority())
+                .containsExactly("ROLE_EMPRESA");
+    }
+
+    @Test
+    void tokensManipuladosOCaducadosSeRechazan() {
+        String token = tokenService.generarAccessToken(usuario);
+        String manipulado = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(tokenService.validarAccessToken(manipulado)).isEmpty();
+        assertThat(tokenService.validarAccessToken("no.es.token")).isEmpty();
+        assertThat(tokenService.validarAccessToken(tokenService.generarRefreshToken(usuario))).isEmpty();
+        assertThat(servicioEn(AHORA.plus(Duration.ofMinutes(16))).validarAccessToken(token)).isEmpty();
+    }
+
+    @Test
+    void cambioDeContrasenaInvalidaLosTokens() {
+        String access = tokenService.generarAccessToken(usuario);
+        String refresh = tokenService.generarRefreshToken(usuario);
+
+        usuario.setPassword("otro-hash");
+        tokenService.onUsuarioModificado(new UsuarioModificadoEvent(usuario.getEmail()));
+
+        assertThat(tokenService.validarAccessToken(access)).isEmpty();
+        assertThat(tokenService.validarRefreshToken(refresh)).isEmpty();
+    }
+
+    @Test
+    void refreshTokenRequiereUsuarioActivo() {
+        String refresh = tokenService.generarRefreshToken(usuario);
+        assertThat(tokenService.validarRefreshToken(refresh)).contains(usuario);
+
+        usuario.setEnabled(0);
+        assertThat(tokenService.validarRefreshToken(refresh)).isEmpty();
+    }
+
+    @Test
+    void secretoAusenteOCortoImpideArrancar() {
+        assertThatThrownBy(() -> servicio("", AHORA)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> servicio("secreto-de-pruebas", AHORA)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private TokenService servicioEn(Instant instante) {
+        return servicio(SECRETO, instante);
+    }
+
+    private TokenService servicio(String secreto, Instant instante) {
+        return new TokenService(new ObjectMapper(), usuarioRepository, secreto, Duration.ofMinutes(15),
+                Duration.ofDays(7), Clock.fixed(instante, ZoneOffset.UTC));
+    }
+}
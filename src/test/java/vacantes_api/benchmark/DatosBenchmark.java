@@ -0,0 +1,123 @@
+package vacantes_api.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.entity.Empresa;
+import vacantes_api.modelo.entity.Solicitud;
+import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.entity.Vacante;
+import vacantes_api.modelo.repository.ICategoriaRepository;
+import vacantes_api.modelo.repository.IEmpresaRepository;
+import vacantes_api.modelo.repository.ISolicitudRepository;
+import vacantes_api.modelo.repository.IUsuarioRepository;
+import vacantes_api.modelo.repository.IVacanteRepository;
+
+/**
+ * Datos de prueba compartidos por los benchmarks que levantan la aplicación
+ * completa contra MySQL.
+ */
+final class DatosBenchmark {
+
+    static final String CLIENTE = "cliente@benchmark.com";
+
+    static final String PASSWORD = "benchmark";
+
+    /**
+     * Secreto de los tokens firmados para las aplicaciones arrancadas por los
+     * benchmarks.
+     */
+    static final String SECRETO_TOKENS = "vacantes.auth.token.secreto=secreto-solo-para-benchmarks-0123456789";
+
+    private static final int VACANTES = 200;
+
+    private static final int SOLICITUDES = 50;
+
+    private DatosBenchmark() {
+    }
+
+    /**
+     * Cabecera {@code Authorization} HTTP Basic del cliente de prueba.
+     *
+     * @return valor de la cabecera.
+     */
+    static String autorizacionCliente() {
+        return "Basic " + Base64.getEncoder()
+                .encodeToString((CLIENTE + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Inserta {@value #VACANTES} vacantes y {@value #SOLICITUDES} solicitudes
+     * del cliente de prueba si la base de datos aún no las tiene.
+     *
+     * @param contexto contexto de la aplicación arrancada.
+     */
+    static void cargarSiFaltan(ConfigurableApplicationContext contexto) {
+        IUsuarioRepository usuarioRepository = contexto.getBean(IUsuarioRepository.class);
+        if (usuarioRepository.existsById(CLIENTE)) {
+            return;
+        }
+
+        PasswordEncoder passwordEncoder = contexto.getBean(PasswordEncoder.class);
+        IVacanteRepository vacanteRepository = contexto.getBean(IVacanteRepository.class);
+        ISolicitudRepository solicitudRepository = contexto.getBean(ISolicitudRepository.class);
+
+        Usuario usuarioEmpresa = usuarioRepository.save(Usuario.builder()
+                .email("empresa@benchmark.com")
+                .nombre("Empresa")
+                .apellidos("Benchmark")
+                .password(passwordEncoder.encode(PASSWORD))
+                .enabled(1)
+                .fechaRegistro(LocalDate.of(2025, 1, 1))
+                .rol("EMPRESA")
+                .build());
+        Usuario usuarioCliente = usuarioRepository.save(Usuario.builder()
+                .email(CLIENTE)
+                .nombre("Cliente")
+                .apellidos("Benchmark")
+                .password(passwordEncoder.encode(PASSWORD))
+                .enabled(1)
+                .fechaRegistro(LocalDate.of(2025, 1, 1))
+                .rol("CLIENTE")
+                .build());
+        Empresa empresa = contexto.getBean(IEmpresaRepository.class).save(Empresa.builder()
+                .cif("B99999999")
+                .nombreEmpresa("Empresa Benchmark")
+                .direccionFiscal("Calle Mayor 1")
+                .pais("España")
+                .usuario(usuarioEmpresa)
+                .build());
+        Categoria categoria = contexto.getBean(ICategoriaRepository.class)
+                .save(Categoria.builder().nombre("Benchmark").build());
+
+        for (int v = 0; v < VACANTES; v++) {
+            Vacante vacante = vacanteRepository.save(Vacante.builder()
+                    .nombre("Vacante " + v)
+                    .descripcion("Descripción")
+                    .fecha(LocalDate.of(2025, 1, 1).plusDays(v % 365))
+                    .salario(20000.0 + v * 10)
+                    .estatus(Vacante.Estatus.CREADA)
+                    .destacado(false)
+                    .imagen("imagen.jpg")
+                    .detalles("Detalles")
+                    .categoria(categoria)
+                    .empresa(empresa)
+                    .build());
+
+            if (v < SOLICITUDES) {
+                solicitudRepository.save(Solicitud.builder()
+                        .fecha(LocalDate.of(2025, 2, 1))
+                        .archivo("cv.pdf")
+                        .estado(0)
+                        .vacante(vacante)
+                        .usuario(usuarioCliente)
+                        .build());
+            }
+        }
+    }
+}
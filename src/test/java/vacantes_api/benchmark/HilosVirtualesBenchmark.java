@@ -0,0 +1,136 @@
+package vacantes_api.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import vacantes_api.VacantesApiApplication;
+
+/**
+ * Prueba de carga de {@code GET /vacantes} y
+ * {@code GET /solicitudes/mis-solicitudes} con hilos de plataforma (pool de
+ * Tomcat por defecto) y con hilos virtuales más el
+ * {@link vacantes_api.config.LimitadorConcurrencia}.
+ * <p>
+ * Se mide en modo {@code SampleTime}, de modo que el informe de JMH incluye
+ * los percentiles de latencia (p99 en {@code p0.99}). 400 clientes
+ * concurrentes superan los 200 hilos de Tomcat. Las respuestas 503 del
+ * limitador son rápidas y rebajarían los percentiles, así que
+ * {@link Respuestas} las cuenta aparte de las correctas: el informe muestra
+ * {@code correctas} y {@code rechazadas} como métricas secundarias y los
+ * percentiles deben leerse junto a ellas. Cualquier otro estado hace fallar la
+ * ejecución.
+ * <p>
+ * Necesita el mismo MySQL que {@link PerfilProduccionBenchmark}. Ejecución:
+ * {@code mvn -Pbenchmark -DskipTests test -Djmh.incluir=HilosVirtualesBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(400)
+@Fork(1)
+public class HilosVirtualesBenchmark {
+
+    @Param({ "plataforma", "virtual" })
+    private String modo;
+
+    private ConfigurableApplicationContext contexto;
+
+    private HttpClient cliente;
+
+    private HttpRequest peticionVacantes;
+
+    private HttpRequest peticionSolicitudes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        contexto = new SpringApplicationBuilder(VacantesApiApplication.class)
+                .profiles("prod")
+                .properties("server.port=0", "vacantes.respuestas.cache.ttl=PT0S", DatosBenchmark.SECRETO_TOKENS,
+                        "spring.threads.virtual.enabled=" + modo.equals("virtual"))
+                .run();
+
+        DatosBenchmark.cargarSiFaltan(contexto);
+
+        int puerto = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+        cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        peticionVacantes = HttpRequest.newBuilder(URI.create("http://localhost:" + puerto + "/vacantes"))
+                .GET()
+                .build();
+        peticionSolicitudes = HttpRequest
+                .newBuilder(URI.create("http://localhost:" + puerto + "/solicitudes/mis-solicitudes"))
+                .header("Authorization", DatosBenchmark.autorizacionCliente())
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public int vacantes(Respuestas respuestas) throws Exception {
+        return enviar(peticionVacantes, respuestas);
+    }
+
+    @Benchmark
+    public int misSolicitudes(Respuestas respuestas) throws Exception {
+        return enviar(peticionSolicitudes, respuestas);
+    }
+
+    private int enviar(HttpRequest peticion, Respuestas respuestas) throws Exception {
+        HttpResponse<byte[]> respuesta = cliente.send(peticion, HttpResponse.BodyHandlers.ofByteArray());
+        if (respuesta.statusCode() == 200) {
+            respuestas.correctas++;
+            return respuesta.body().length;
+        }
+        if (respuesta.statusCode() == 503) {
+            respuestas.rechazadas++;
+            return 0;
+        }
+        throw new IllegalStateException(peticion.uri() + " respondió " + respuesta.statusCode());
+    }
+
+    /**
+     * Contadores por hilo de respuestas correctas y de rechazos 503 del
+     * limitador, que JMH suma y publica junto a la latencia.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Respuestas {
+
+        public long correctas;
+
+        public long rechazadas;
+
+        @Setup(Level.Iteration)
+        public void reiniciar() {
+            correctas = 0;
+            rechazadas = 0;
+        }
+    }
+}
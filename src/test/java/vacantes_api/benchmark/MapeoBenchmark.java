@@ -0,0 +1,125 @@
+package vacantes_api.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import vacantes_api.config.ModelMapperConfig;
+import vacantes_api.modelo.dto.SolicitudResponseDTO;
+import vacantes_api.modelo.dto.VacanteResponseDTO;
+import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.entity.Empresa;
+import vacantes_api.modelo.entity.Solicitud;
+import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.entity.Vacante;
+import vacantes_api.modelo.mapper.SolicitudMapper;
+import vacantes_api.modelo.mapper.VacanteMapper;
+
+/**
+ * Compara el mapeo de listas de entidades a DTO con {@link ModelMapper} frente
+ * a los mapeadores manuales de {@code vacantes_api.modelo.mapper}.
+ * <p>
+ * Ejecución: {@code mvn test-compile} y lanzar {@link #main(String[])} desde el
+ * IDE, o con el classpath de test y {@code org.openjdk.jmh.Main MapeoBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapeoBenchmark {
+
+    @Param("10000")
+    private int elementos;
+
+    private ModelMapper modelMapper;
+
+    private VacanteMapper vacanteMapper;
+
+    private SolicitudMapper solicitudMapper;
+
+    private List<Vacante> vacantes;
+
+    private List<Solicitud> solicitudes;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapperConfig().modelMapper();
+        vacanteMapper = new VacanteMapper();
+        solicitudMapper = new SolicitudMapper();
+
+        Usuario usuario = Usuario.builder().email("empresa@email.com").nombre("Ana").apellidos("García").build();
+        Empresa empresa = Empresa.builder().idEmpresa(1).nombreEmpresa("Empresa").pais("España").usuario(usuario)
+                .build();
+        Categoria categoria = Categoria.builder().idCategoria(1).nombre("Informática").build();
+
+        vacantes = new ArrayList<>(elementos);
+        solicitudes = new ArrayList<>(elementos);
+        for (int i = 0; i < elementos; i++) {
+            Vacante vacante = Vacante.builder()
+                    .idVacante(i)
+                    .nombre("Vacante " + i)
+                    .descripcion("Descripción")
+                    .fecha(LocalDate.of(2025, 1, 1).plusDays(i % 365))
+                    .salario(20000.0 + i)
+                    .estatus(Vacante.Estatus.CREADA)
+                    .destacado(i % 2 == 0)
+                    .imagen("imagen.jpg")
+                    .detalles("Detalles")
+                    .categoria(categoria)
+                    .empresa(empresa)
+                    .build();
+            vacantes.add(vacante);
+            solicitudes.add(Solicitud.builder()
+                    .idSolicitud(i)
+                    .fecha(vacante.getFecha())
+                    .archivo("cv.pdf")
+                    .estado(0)
+                    .vacante(vacante)
+                    .usuario(usuario)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<VacanteResponseDTO> vacantesModelMapper() {
+        return vacantes.stream().map(v -> modelMapper.map(v, VacanteResponseDTO.class)).toList();
+    }
+
+    @Benchmark
+    public List<VacanteResponseDTO> vacantesMapperManual() {
+        return vacanteMapper.toDTOList(vacantes);
+    }
+
+    @Benchmark
+    public List<SolicitudResponseDTO> solicitudesModelMapper() {
+        return solicitudes.stream().map(s -> modelMapper.map(s, SolicitudResponseDTO.class)).toList();
+    }
+
+    @Benchmark
+    public List<SolicitudResponseDTO> solicitudesMapperManual() {
+        return solicitudMapper.toDTOList(solicitudes);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MapeoBenchmark.class.getSimpleName()).build()).run();
+    }
+}
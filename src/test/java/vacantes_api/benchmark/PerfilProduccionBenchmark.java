@@ -0,0 +1,117 @@
+package vacantes_api.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import vacantes_api.VacantesApiApplication;
+
+/**
+ * Compara el rendimiento de {@code GET /vacantes} y
+ * {@code GET /solicitudes/mis-solicitudes} con la configuración por defecto
+ * ({@code base}: pool de 10 conexiones, sin caché de sentencias y con volcado
+ * de SQL) y con el perfil {@code prod}.
+ * <p>
+ * Necesita un MySQL accesible con la configuración de
+ * {@code application.properties}, o la indicada con
+ * {@code -Dspring.datasource.url}, {@code -Dspring.datasource.username} y
+ * {@code -Dspring.datasource.password}. Flyway crea el esquema y los datos de
+ * prueba se insertan solo la primera vez. La caché de respuestas se desactiva
+ * para que cada petición llegue a la base de datos.
+ * <p>
+ * Cualquier respuesta distinta de 200 (por ejemplo, 401 por credenciales o
+ * 500 por falta de conexiones) detiene la medición en lugar de contarse como
+ * una operación correcta.
+ * <p>
+ * Ejecución: {@code mvn -Pbenchmark -DskipTests test -Djmh.incluir=PerfilProduccionBenchmark}.
+ * <p>
+ * Resultados: sin medir todavía; el entorno donde se añadió no tenía MySQL.
+ * Al medir, anotar aquí las operaciones por segundo de cada perfil y
+ * benchmark, junto con el hardware y la versión de MySQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class PerfilProduccionBenchmark {
+
+    @Param({ "base", "prod" })
+    private String perfil;
+
+    private ConfigurableApplicationContext contexto;
+
+    private HttpClient cliente;
+
+    private HttpRequest peticionVacantes;
+
+    private HttpRequest peticionSolicitudes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(VacantesApiApplication.class)
+                .properties("server.port=0", "vacantes.respuestas.cache.ttl=PT0S", DatosBenchmark.SECRETO_TOKENS);
+        if (perfil.equals("prod")) {
+            builder.profiles("prod");
+        }
+        contexto = builder.run();
+
+        DatosBenchmark.cargarSiFaltan(contexto);
+
+        int puerto = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+        cliente = HttpClient.newHttpClient();
+        peticionVacantes = HttpRequest.newBuilder(URI.create("http://localhost:" + puerto + "/vacantes"))
+                .GET()
+                .build();
+        peticionSolicitudes = HttpRequest
+                .newBuilder(URI.create("http://localhost:" + puerto + "/solicitudes/mis-solicitudes"))
+                .header("Authorization", DatosBenchmark.autorizacionCliente())
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public int vacantes() throws Exception {
+        return enviar(peticionVacantes);
+    }
+
+    @Benchmark
+    public int misSolicitudes() throws Exception {
+        return enviar(peticionSolicitudes);
+    }
+
+    private int enviar(HttpRequest peticion) throws Exception {
+        HttpResponse<byte[]> respuesta = cliente.send(peticion, HttpResponse.BodyHandlers.ofByteArray());
+        if (respuesta.statusCode() != 200) {
+            throw new IllegalStateException(peticion.uri() + " respondió " + respuesta.statusCode());
+        }
+        return respuesta.body().length;
+    }
+}
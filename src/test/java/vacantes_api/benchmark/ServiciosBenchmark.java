@@ -0,0 +1,216 @@
+package vacantes_api.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import vacantes_api.VacantesApiApplication;
+import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.entity.Empresa;
+import vacantes_api.modelo.entity.Solicitud;
+import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.entity.Vacante;
+import vacantes_api.modelo.repository.IEmpresaRepository;
+import vacantes_api.modelo.repository.ISolicitudRepository;
+import vacantes_api.modelo.repository.IUsuarioRepository;
+import vacantes_api.modelo.service.ICategoriaService;
+import vacantes_api.modelo.service.ISolicitudService;
+import vacantes_api.modelo.service.IUsuarioService;
+import vacantes_api.modelo.service.IVacanteService;
+
+/**
+ * Benchmarks de la capa de servicio sobre el contexto Spring real con la base
+ * de datos H2 en memoria del perfil {@code test} (modo MySQL).
+ * <p>
+ * Cubre las operaciones CRUD de {@code GenericoCRUDServiceImplMy8}, la
+ * autenticación con BCrypt de {@code UsuarioServiceImplMy8.auth} y el flujo de
+ * {@code SolicitudServiceImplMy8.adjudicarSolicitud}. Los datos se generan de
+ * forma determinista en cada fork para que los resultados sean comparables
+ * entre ejecuciones.
+ * <p>
+ * Ejecución: {@code mvn -Pbenchmark -DskipTests test}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiciosBenchmark {
+
+    private static final String PASSWORD = "benchmark";
+
+    private static final int VACANTES = 200;
+
+    private static final int SOLICITUDES_POR_VACANTE = 10;
+
+    private ConfigurableApplicationContext contexto;
+
+    private IVacanteService vacanteService;
+
+    private ICategoriaService categoriaService;
+
+    private IUsuarioService usuarioService;
+
+    private ISolicitudService solicitudService;
+
+    private Categoria categoria;
+
+    private final List<Integer> idsVacantes = new ArrayList<>();
+
+    private final List<Integer> idsSolicitudes = new ArrayList<>();
+
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        contexto = new SpringApplicationBuilder(VacantesApiApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        vacanteService = contexto.getBean(IVacanteService.class);
+        categoriaService = contexto.getBean(ICategoriaService.class);
+        usuarioService = contexto.getBean(IUsuarioService.class);
+        solicitudService = contexto.getBean(ISolicitudService.class);
+
+        cargarDatos();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        contexto.close();
+    }
+
+    /**
+     * Inserta una empresa, una categoría, {@value #VACANTES} vacantes y
+     * {@value #SOLICITUDES_POR_VACANTE} solicitudes por vacante.
+     */
+    private void cargarDatos() {
+        PasswordEncoder passwordEncoder = contexto.getBean(PasswordEncoder.class);
+        IUsuarioRepository usuarioRepository = contexto.getBean(IUsuarioRepository.class);
+        ISolicitudRepository solicitudRepository = contexto.getBean(ISolicitudRepository.class);
+
+        Usuario usuarioEmpresa = usuarioRepository.save(Usuario.builder()
+                .email("empresa@benchmark.com")
+                .nombre("Empresa")
+                .apellidos("Benchmark")
+                .password(passwordEncoder.encode(PASSWORD))
+                .enabled(1)
+                .fechaRegistro(LocalDate.of(2025, 1, 1))
+                .rol("EMPRESA")
+                .build());
+        Empresa empresa = contexto.getBean(IEmpresaRepository.class).save(Empresa.builder()
+                .cif("B00000000")
+                .nombreEmpresa("Empresa Benchmark")
+                .direccionFiscal("Calle Mayor 1")
+                .pais("España")
+                .usuario(usuarioEmpresa)
+                .build());
+        categoria = categoriaService.create(Categoria.builder().nombre("Benchmark").build());
+
+        List<Usuario> candidatos = new ArrayList<>();
+        for (int i = 0; i < SOLICITUDES_POR_VACANTE; i++) {
+            candidatos.add(usuarioRepository.save(Usuario.builder()
+                    .email("cliente" + i + "@benchmark.com")
+                    .nombre("Cliente")
+                    .apellidos(String.valueOf(i))
+                    .password(passwordEncoder.encode(PASSWORD))
+                    .enabled(1)
+                    .fechaRegistro(LocalDate.of(2025, 1, 1))
+                    .rol("CLIENTE")
+                    .build()));
+        }
+
+        for (int v = 0; v < VACANTES; v++) {
+            Vacante vacante = vacanteService.create(Vacante.builder()
+                    .nombre("Vacante " + v)
+                    .descripcion("Descripción")
+                    .fecha(LocalDate.of(2025, 1, 1).plusDays(v % 365))
+                    .salario(20000.0 + v * 10)
+                    .estatus(Vacante.Estatus.CREADA)
+                    .destacado(false)
+                    .imagen("imagen.jpg")
+                    .detalles("Detalles")
+                    .categoria(categoria)
+                    .empresa(empresa)
+                    .build());
+            idsVacantes.add(vacante.getIdVacante());
+
+            for (Usuario candidato : candidatos) {
+                Solicitud solicitud = solicitudRepository.save(Solicitud.builder()
+                        .fecha(LocalDate.of(2025, 2, 1))
+                        .archivo("cv.pdf")
+                        .estado(0)
+                        .vacante(vacante)
+                        .usuario(candidato)
+                        .build());
+                idsSolicitudes.add(solicitud.getIdSolicitud());
+            }
+        }
+    }
+
+    /**
+     * Devuelve índices consecutivos para recorrer los datos de forma cíclica y
+     * reproducible.
+     */
+    private int siguiente(int total) {
+        siguiente = (siguiente + 1) % total;
+        return siguiente;
+    }
+
+    @Benchmark
+    public void crudRead(Blackhole bh) {
+        bh.consume(vacanteService.read(idsVacantes.get(siguiente(idsVacantes.size()))));
+    }
+
+    @Benchmark
+    public void crudFindAll(Blackhole bh) {
+        bh.consume(vacanteService.findAll());
+    }
+
+    @Benchmark
+    public void crudCreateUpdateDelete(Blackhole bh) {
+        Categoria nueva = categoriaService.create(Categoria.builder().nombre("Temporal").build());
+        nueva.setDescripcion("Actualizada");
+        bh.consume(categoriaService.update(nueva));
+        categoriaService.delete(nueva.getIdCategoria());
+    }
+
+    @Benchmark
+    public void autenticacionBCrypt(Blackhole bh) {
+        bh.consume(usuarioService.auth("empresa@benchmark.com", PASSWORD));
+    }
+
+    /**
+     * Adjudica una solicitud y deshace la adjudicación, ya que una vacante
+     * cubierta no admite una segunda adjudicación.
+     */
+    @Benchmark
+    public void adjudicarSolicitud() {
+        int i = siguiente(idsSolicitudes.size());
+        solicitudService.adjudicarSolicitud(idsSolicitudes.get(i));
+        solicitudService.rechazarSolicitud(idsSolicitudes.get(i), idsVacantes.get(i / SOLICITUDES_POR_VACANTE));
+    }
+}
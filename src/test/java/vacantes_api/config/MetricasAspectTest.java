@@ -0,0 +1,35 @@
+package vacantes_api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.mapper.CategoriaMapper;
+
+/**
+ * Pruebas de {@link MetricasAspect} sobre un mapeador.
+ */
+class MetricasAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void registraUnTimerPorConversion() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new CategoriaMapper());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new MetricasAspect(registry));
+        CategoriaMapper mapper = factory.getProxy();
+
+        mapper.toDTO(Categoria.builder().idCategoria(1).nombre("Informática").build());
+        mapper.toDTO(null);
+
+        assertThat(registry.get("vacantes.mapeo")
+                .tag("clase", "CategoriaMapper")
+                .tag("metodo", "toDTO")
+                .tag("excepcion", "none")
+                .timer().count()).isEqualTo(2);
+    }
+}
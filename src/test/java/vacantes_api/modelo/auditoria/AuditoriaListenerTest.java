@@ -0,0 +1,69 @@
+package vacantes_api.modelo.auditoria;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.repository.ICategoriaRepository;
+
+/**
+ * Comprueba que {@link AuditoriaListener} registra identificadores y nombres de
+ * campos modificados, sin el contenido de la entidad.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(AuditoriaListener.class)
+class AuditoriaListenerTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(AuditoriaListener.LOGGER_AUDITORIA);
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @Autowired
+    private ICategoriaRepository categoriaRepository;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        categoriaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void registraAltaModificacionYBajaConfirmadas() {
+        Categoria categoria = categoriaRepository.save(Categoria.builder()
+                .nombre("Informática")
+                .descripcion("Descripción larga")
+                .build());
+        categoria.setNombre("Sistemas");
+        categoriaRepository.save(categoria);
+        categoriaRepository.deleteById(categoria.getIdCategoria());
+
+        Integer id = categoria.getIdCategoria();
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly(
+                "accion=INSERT entidad=Categoria id=" + id,
+                "accion=UPDATE entidad=Categoria id=" + id + " campos=[nombre]",
+                "accion=DELETE entidad=Categoria id=" + id);
+    }
+}
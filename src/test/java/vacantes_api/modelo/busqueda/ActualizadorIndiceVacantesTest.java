@@ -0,0 +1,58 @@
+package vacantes_api.modelo.busqueda;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import vacantes_api.modelo.entity.Vacante;
+import vacantes_api.modelo.event.VacanteModificadaEvent;
+import vacantes_api.modelo.repository.IVacanteRepository;
+
+/**
+ * Comprueba que {@link ActualizadorIndiceVacantes} reindexa solo las vacantes
+ * afectadas por cada cambio, sin recargar la tabla completa.
+ */
+@ExtendWith(MockitoExtension.class)
+class ActualizadorIndiceVacantesTest {
+
+    @Mock
+    private IndiceVacantes indice;
+
+    @Mock
+    private IVacanteRepository vacanteRepository;
+
+    @InjectMocks
+    private ActualizadorIndiceVacantes actualizador;
+
+    @Test
+    void cambioDeCategoriaReindexaSusVacantes() {
+        Vacante vacante = Vacante.builder().idVacante(1).build();
+        when(vacanteRepository.findByCategoriaIdCategoria(7)).thenReturn(List.of(vacante));
+
+        actualizador.onVacanteModificada(VacanteModificadaEvent.deCategoria(7));
+
+        verify(indice).indexar(vacante);
+        verify(indice, never()).reconstruir(any());
+        verify(vacanteRepository, never()).findAll();
+    }
+
+    @Test
+    void cambioDeEmpresaReindexaSusVacantes() {
+        Vacante vacante = Vacante.builder().idVacante(2).build();
+        when(vacanteRepository.findByEmpresaIdEmpresa(3)).thenReturn(List.of(vacante));
+
+        actualizador.onVacanteModificada(VacanteModificadaEvent.deEmpresa(3));
+
+        verify(indice).indexar(vacante);
+        verify(vacanteRepository, never()).findAll();
+    }
+}
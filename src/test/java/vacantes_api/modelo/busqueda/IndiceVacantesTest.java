@@ -0,0 +1,82 @@
+package vacantes_api.modelo.busqueda;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.entity.Empresa;
+import vacantes_api.modelo.entity.Vacante;
+
+/**
+ * Comprueba el análisis de texto, la ordenación por relevancia y la
+ * actualización incremental de {@link IndiceVacantes}.
+ */
+class IndiceVacantesTest {
+
+    private IndiceVacantes indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceVacantes();
+        indice.reconstruir(List.of(
+                vacante(1, "Desarrollador Java", "Backend con Spring", "Informática", "Acme"),
+                vacante(2, "Analista de datos", "Informes y Java ocasional", "Informática", "Datalab"),
+                vacante(3, "Camarero", "Servicio de sala", "Hostelería", "Bar Pepe")));
+    }
+
+    @Test
+    void analizadorPliegaAcentosYPlurales() {
+        assertThat(AnalizadorTexto.analizar("Desarrolladores de INFORMÁTICA y Analistas"))
+                .containsExactly("desarrollador", "informatica", "analista");
+        assertThat(AnalizadorTexto.analizar("Diseño")).containsExactly("diseño");
+    }
+
+    @Test
+    void singularYPluralGeneranElMismoTermino() {
+        assertThat(AnalizadorTexto.analizar("base bases")).containsExactly("base", "base");
+        assertThat(AnalizadorTexto.analizar("red redes")).containsExactly("red", "red");
+        assertThat(AnalizadorTexto.analizar("cliente clientes")).containsExactly("cliente", "cliente");
+        assertThat(AnalizadorTexto.analizar("luz luces")).containsExactly("luz", "luz");
+        assertThat(AnalizadorTexto.analizar("detalle detalles")).containsExactly("detalle", "detalle");
+        assertThat(AnalizadorTexto.analizar("clase clases fuente")).containsExactly("clase", "clase", "fuente");
+    }
+
+    @Test
+    void ordenaPorRelevancia() {
+        assertThat(indice.buscar("java", 10)).containsExactly(1, 2);
+        assertThat(indice.buscar("informatica desarrolladores", 10)).containsExactly(1, 2);
+        assertThat(indice.buscar("hosteleria", 10)).containsExactly(3);
+        assertThat(indice.buscar("de la", 10)).isEmpty();
+    }
+
+    @Test
+    void respetaElLimite() {
+        assertThat(indice.buscar("informática", 1)).hasSize(1);
+    }
+
+    @Test
+    void actualizaDeFormaIncremental() {
+        indice.indexar(vacante(3, "Cocinero Java", "Cocina", "Hostelería", "Bar Pepe"));
+        assertThat(indice.buscar("camarero", 10)).isEmpty();
+        assertThat(indice.buscar("cocinero", 10)).containsExactly(3);
+
+        indice.eliminar(1);
+        assertThat(indice.buscar("java", 10)).containsExactlyInAnyOrder(2, 3);
+        assertThat(indice.size()).isEqualTo(2);
+    }
+
+    private static Vacante vacante(int id, String nombre, String descripcion, String categoria, String empresa) {
+        return Vacante.builder()
+                .idVacante(id)
+                .nombre(nombre)
+                .descripcion(descripcion)
+                .detalles("")
+                .categoria(Categoria.builder().nombre(categoria).build())
+                .empresa(Empresa.builder().nombreEmpresa(empresa).build())
+                .build();
+    }
+}
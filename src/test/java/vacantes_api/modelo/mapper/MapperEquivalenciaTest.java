@@ -0,0 +1,107 @@
+package vacantes_api.modelo.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import vacantes_api.config.ModelMapperConfig;
+import vacantes_api.modelo.dto.EmpresaResponseDTO;
+import vacantes_api.modelo.dto.LoginResponseDTO;
+import vacantes_api.modelo.dto.SolicitudResponseDTO;
+import vacantes_api.modelo.dto.UsuarioResponseDTO;
+import vacantes_api.modelo.dto.VacanteResponseDTO;
+import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.entity.Empresa;
+import vacantes_api.modelo.entity.Solicitud;
+import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.entity.Vacante;
+
+/**
+ * Verifica que los mapeadores manuales producen exactamente los mismos DTOs
+ * que las reglas de {@link ModelMapperConfig}.
+ */
+class MapperEquivalenciaTest {
+
+    private final ModelMapper modelMapper = new ModelMapperConfig().modelMapper();
+
+    private final Usuario usuarioEmpresa = Usuario.builder()
+            .email("empresa@email.com")
+            .nombre("Ana")
+            .apellidos("García")
+            .rol("EMPRESA")
+            .enabled(1)
+            .fechaRegistro(LocalDate.of(2025, 1, 1))
+            .build();
+
+    private final Empresa empresa = Empresa.builder()
+            .idEmpresa(7)
+            .cif("B00000001")
+            .nombreEmpresa("Empresa")
+            .direccionFiscal("Calle Mayor 1")
+            .pais("España")
+            .usuario(usuarioEmpresa)
+            .build();
+
+    private final Vacante vacante = Vacante.builder()
+            .idVacante(3)
+            .nombre("Desarrollador")
+            .descripcion("Backend")
+            .fecha(LocalDate.of(2025, 2, 1))
+            .salario(30000.0)
+            .estatus(Vacante.Estatus.CREADA)
+            .destacado(true)
+            .imagen("imagen.jpg")
+            .detalles("Detalles")
+            .categoria(Categoria.builder().idCategoria(2).nombre("Informática").build())
+            .empresa(empresa)
+            .build();
+
+    @Test
+    void vacanteMapperEquivaleAModelMapper() {
+        assertThat(new VacanteMapper().toDTO(vacante))
+                .isEqualTo(modelMapper.map(vacante, VacanteResponseDTO.class));
+    }
+
+    @Test
+    void solicitudMapperEquivaleAModelMapper() {
+        Solicitud solicitud = Solicitud.builder()
+                .idSolicitud(11)
+                .fecha(LocalDate.of(2025, 3, 1))
+                .archivo("cv.pdf")
+                .curriculum("Curriculum")
+                .comentarios("Comentarios")
+                .estado(0)
+                .vacante(vacante)
+                .usuario(Usuario.builder().email("cliente@email.com").nombre("Luis").apellidos("Pérez").build())
+                .build();
+
+        assertThat(new SolicitudMapper().toDTO(solicitud))
+                .isEqualTo(modelMapper.map(solicitud, SolicitudResponseDTO.class));
+    }
+
+    @Test
+    void empresaMapperEquivaleAModelMapper() {
+        // Las vacantes las asigna siempre el controlador
+        assertThat(new EmpresaMapper().toDTO(empresa))
+                .usingRecursiveComparison()
+                .ignoringFields("vacantes")
+                .isEqualTo(modelMapper.map(empresa, EmpresaResponseDTO.class));
+    }
+
+    @Test
+    void usuarioMapperEquivaleAModelMapper() {
+        UsuarioMapper usuarioMapper = new UsuarioMapper();
+        Usuario cliente = Usuario.builder().email("cliente@email.com").nombre("Luis").rol("CLIENTE").build();
+        usuarioEmpresa.setEmpresa(empresa);
+
+        assertThat(usuarioMapper.toDTO(usuarioEmpresa))
+                .isEqualTo(modelMapper.map(usuarioEmpresa, UsuarioResponseDTO.class));
+        assertThat(usuarioMapper.toDTO(cliente))
+                .isEqualTo(modelMapper.map(cliente, UsuarioResponseDTO.class));
+        assertThat(usuarioMapper.toLoginDTO(cliente))
+                .isEqualTo(modelMapper.map(cliente, LoginResponseDTO.class));
+    }
+}
@@ -0,0 +1,63 @@
+package vacantes_api.modelo.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManagerFactory;
+import vacantes_api.modelo.entity.Categoria;
+
+/**
+ * Comprueba que las categorías se sirven desde la caché de segundo nivel y la
+ * caché de consultas sin volver a la base de datos.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CacheSegundoNivelTest {
+
+    @Autowired
+    private ICategoriaRepository categoriaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        categoriaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void leeCategoriasSinConsultarLaBaseDeDatos() {
+        Categoria categoria = categoriaRepository.save(Categoria.builder().nombre("Informática").build());
+        categoriaRepository.findAll();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThat(categoriaRepository.findById(categoria.getIdCategoria())).isPresent();
+        assertThat(categoriaRepository.findAll()).extracting(Categoria::getNombre).containsExactly("Informática");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidaLaConsultaAlModificarLaTabla() {
+        categoriaRepository.save(Categoria.builder().nombre("Informática").build());
+        categoriaRepository.findAll();
+        categoriaRepository.save(Categoria.builder().nombre("Sistemas").build());
+
+        assertThat(categoriaRepository.findAll()).extracting(Categoria::getNombre)
+                .containsExactlyInAnyOrder("Informática", "Sistemas");
+    }
+}
@@ -0,0 +1,136 @@
+package vacantes_api.modelo.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import vacantes_api.modelo.dto.VacanteFiltroDTO;
+import vacantes_api.modelo.entity.Vacante;
+
+/**
+ * Aplica las migraciones de Flyway sobre una base de datos H2 propia (vacía) y
+ * ejecuta EXPLAIN sobre el SQL que generan las consultas de los repositorios
+ * que filtran por columnas indexadas, comprobando que ninguna recorre una
+ * tabla completa.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:vacantes_flyway;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.flyway.baseline-on-migrate=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "vacantes_api.modelo.repository.IndicesConsultasTest$CapturaSql"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class IndicesConsultasTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IVacanteRepository vacanteRepository;
+
+    @Autowired
+    private ISolicitudRepository solicitudRepository;
+
+    @Autowired
+    private IUsuarioRepository usuarioRepository;
+
+    @Autowired
+    private IEmpresaRepository empresaRepository;
+
+    @BeforeEach
+    void setUp() {
+        CapturaSql.SENTENCIAS.clear();
+    }
+
+    @Test
+    void consultasDeVacantesUsanIndices() {
+        assertSinRecorridoCompleto(() -> vacanteRepository.findBySalarioGreaterThanEqual(20000.0), 20000.0);
+        assertSinRecorridoCompleto(() -> vacanteRepository.findDTOBySalario(20000.0), 20000.0);
+        assertSinRecorridoCompleto(() -> vacanteRepository.findByCategoriaIdCategoria(1), 1);
+        assertSinRecorridoCompleto(() -> vacanteRepository.findByEmpresaIdEmpresa(1), 1);
+        assertSinRecorridoCompleto(() -> vacanteRepository.findDTOByEmpresaId(1), 1);
+        assertSinRecorridoCompleto(() -> vacanteRepository.findPaginaSiguiente(LocalDate.of(2025, 1, 1), 10,
+                Limit.of(20)), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1), 10);
+        assertSinRecorridoCompleto(() -> vacanteRepository.findAll(
+                VacanteSpecifications.conFiltro(VacanteFiltroDTO.builder().estatus(Vacante.Estatus.CREADA).build()),
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "fecha"))), "CREADA");
+    }
+
+    @Test
+    void consultasDeSolicitudesUsanIndices() {
+        assertSinRecorridoCompleto(() -> solicitudRepository.existsByVacanteIdVacanteAndEstado(1, 1), 1, 1);
+        assertSinRecorridoCompleto(() -> solicitudRepository.adjudicar(1, 2), 2, 1);
+        assertSinRecorridoCompleto(() -> solicitudRepository.resetAllEstado(1), 1);
+        assertSinRecorridoCompleto(() -> solicitudRepository.findDTOByVacanteId(1), 1);
+        assertSinRecorridoCompleto(() -> solicitudRepository.findDTOByUsuarioEmail("a@email.com"), "a@email.com");
+    }
+
+    @Test
+    void consultasDeUsuariosYEmpresasUsanIndices() {
+        assertSinRecorridoCompleto(() -> usuarioRepository.findByRol("EMPRESA"), "EMPRESA");
+        assertSinRecorridoCompleto(() -> usuarioRepository.findByEnabled(1), 1);
+        assertSinRecorridoCompleto(() -> empresaRepository.findByUsuarioEmail("a@email.com"), "a@email.com");
+    }
+
+    /**
+     * Ejecuta la operación del repositorio, captura las sentencias SQL
+     * generadas y comprueba que el plan de ejecución de cada una no contiene
+     * recorridos completos de tabla. Los parámetros que no se indican (por
+     * ejemplo, los de LIMIT) se enlazan con el valor 1.
+     */
+    private void assertSinRecorridoCompleto(Runnable operacion, Object... parametros) {
+        CapturaSql.SENTENCIAS.clear();
+        operacion.run();
+
+        assertThat(CapturaSql.SENTENCIAS).isNotEmpty();
+        for (String sql : CapturaSql.SENTENCIAS) {
+            String plan = jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement("EXPLAIN " + sql);
+                int total = ps.getParameterMetaData().getParameterCount();
+                for (int i = 0; i < total; i++) {
+                    ps.setObject(i + 1, i < parametros.length ? parametros[i] : 1);
+                }
+                return ps;
+            }, rs -> rs.next() ? rs.getString(1) : null);
+
+            assertThat(plan).as(sql).isNotNull().doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    private void assertSinRecorridoCompleto(Supplier<?> consulta, Object... parametros) {
+        assertSinRecorridoCompleto((Runnable) consulta::get, parametros);
+    }
+
+    /**
+     * Guarda el SQL que Hibernate envía a la base de datos.
+     */
+    public static class CapturaSql implements StatementInspector {
+
+        static final List<String> SENTENCIAS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SENTENCIAS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package vacantes_api.modelo.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import vacantes_api.modelo.dto.SolicitudResponseDTO;
+import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.entity.Empresa;
+import vacantes_api.modelo.entity.Solicitud;
+import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.entity.Vacante;
+
+/**
+ * Comprueba que {@link ISolicitudRepository#streamDTOByVacanteId} recorre solo
+ * las solicitudes de la vacante, ordenadas por ID, con una única sentencia y
+ * sin cargar entidades en el contexto de persistencia.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SolicitudRepositoryStreamTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ISolicitudRepository solicitudRepository;
+
+    private Statistics statistics;
+
+    private Integer idVacante;
+
+    @BeforeEach
+    void setUp() {
+        Usuario usuarioEmpresa = em.persist(usuario("empresa@email.com", "EMPRESA"));
+        Empresa empresa = em.persist(Empresa.builder()
+                .cif("B00000000")
+                .nombreEmpresa("Empresa")
+                .pais("España")
+                .usuario(usuarioEmpresa)
+                .build());
+        Categoria categoria = em.persist(Categoria.builder().nombre("Informática").build());
+        Vacante vacante = em.persist(vacante("Backend", categoria, empresa));
+        Vacante otra = em.persist(vacante("Frontend", categoria, empresa));
+        idVacante = vacante.getIdVacante();
+
+        for (int c = 0; c < 3; c++) {
+            Usuario cliente = em.persist(usuario("cliente" + c + "@email.com", "CLIENTE"));
+            em.persist(solicitud(vacante, cliente));
+            em.persist(solicitud(otra, cliente));
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void recorreLasSolicitudesDeLaVacanteSinCargarEntidades() {
+        List<SolicitudResponseDTO> solicitudes;
+        try (Stream<SolicitudResponseDTO> stream = solicitudRepository.streamDTOByVacanteId(idVacante)) {
+            solicitudes = stream.toList();
+        }
+
+        assertThat(solicitudes).hasSize(3);
+        assertThat(solicitudes).extracting(SolicitudResponseDTO::getIdSolicitud).isSorted();
+        assertThat(solicitudes).allSatisfy(s -> {
+            assertThat(s.getIdVacante()).isEqualTo(idVacante);
+            assertThat(s.getNombreEmpresa()).isEqualTo("Empresa");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private static Usuario usuario(String email, String rol) {
+        return Usuario.builder()
+                .email(email)
+                .nombre("Nombre")
+                .apellidos("Prueba")
+                .password("x")
+                .enabled(1)
+                .rol(rol)
+                .build();
+    }
+
+    private static Vacante vacante(String nombre, Categoria categoria, Empresa empresa) {
+        return Vacante.builder()
+                .nombre(nombre)
+                .descripcion("Descripción")
+                .fecha(LocalDate.of(2025, 1, 1))
+                .salario(20000.0)
+                .estatus(Vacante.Estatus.CREADA)
+                .destacado(false)
+                .imagen("imagen.jpg")
+                .detalles("Detalles")
+                .categoria(categoria)
+                .empresa(empresa)
+                .build();
+    }
+
+    private static Solicitud solicitud(Vacante vacante, Usuario usuario) {
+        return Solicitud.builder()
+                .fecha(LocalDate.of(2025, 2, 1))
+                .archivo("cv.pdf")
+                .vacante(vacante)
+                .usuario(usuario)
+                .build();
+    }
+}
@@ -0,0 +1,214 @@
+package vacantes_api.modelo.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import vacantes_api.config.ModelMapperConfig;
+import vacantes_api.modelo.dto.VacanteFiltroDTO;
+import vacantes_api.modelo.dto.VacanteResponseDTO;
+import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.entity.Empresa;
+import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.entity.Vacante;
+
+/**
+ * Comprueba que las consultas de listado de {@link IVacanteRepository}, junto
+ * con el mapeo a {@link VacanteResponseDTO}, se resuelven con una única
+ * sentencia SQL independientemente del número de vacantes, categorías y
+ * empresas implicadas, y que las proyecciones {@code findDTO*} no cargan
+ * entidades gestionadas.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ModelMapperConfig.class)
+class VacanteRepositoryConsultasTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private IVacanteRepository vacanteRepository;
+
+    @Autowired
+    private ModelMapper modelMapper;
+
+    private Statistics statistics;
+
+    private Integer idCategoria;
+
+    private Integer idEmpresa;
+
+    @BeforeEach
+    void setUp() {
+        for (int e = 0; e < 3; e++) {
+            Usuario usuario = em.persist(Usuario.builder()
+                    .email("empresa" + e + "@email.com")
+                    .nombre("Empresa")
+                    .apellidos("Prueba")
+                    .password("x")
+                    .enabled(1)
+                    .rol("EMPRESA")
+                    .build());
+            Empresa empresa = em.persist(Empresa.builder()
+                    .cif("B0000000" + e)
+                    .nombreEmpresa("Empresa " + e)
+                    .pais("España")
+                    .usuario(usuario)
+                    .build());
+            Categoria categoria = em.persist(Categoria.builder()
+                    .nombre("Categoria " + e)
+                    .build());
+            idCategoria = categoria.getIdCategoria();
+            idEmpresa = empresa.getIdEmpresa();
+
+            for (int v = 0; v < 4; v++) {
+                em.persist(Vacante.builder()
+                        .nombre("Vacante " + e + "-" + v)
+                        .descripcion("Descripción")
+                        .fecha(LocalDate.of(2025, 1, 1).plusDays(v))
+                        .salario(20000.0 + v * 1000)
+                        .estatus(Vacante.Estatus.CREADA)
+                        .destacado(false)
+                        .imagen("imagen.jpg")
+                        .detalles("Detalles")
+                        .categoria(categoria)
+                        .empresa(empresa)
+                        .build());
+            }
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllUsaUnaSolaSentencia() {
+        assertUnaSolaSentencia(vacanteRepository::findAll, 12);
+    }
+
+    @Test
+    void findByIdUsaUnaSolaSentencia() {
+        Integer id = vacanteRepository.findAll().get(0).getIdVacante();
+        em.clear();
+        statistics.clear();
+
+        assertUnaSolaSentencia(() -> vacanteRepository.findById(id).stream().toList(), 1);
+    }
+
+    @Test
+    void findByNombreUsaUnaSolaSentencia() {
+        assertUnaSolaSentencia(() -> vacanteRepository.findByNombreContainingIgnoreCase("vacante"), 12);
+    }
+
+    @Test
+    void findByCategoriaIdUsaUnaSolaSentencia() {
+        assertUnaSolaSentencia(() -> vacanteRepository.findByCategoriaIdCategoria(idCategoria), 4);
+    }
+
+    @Test
+    void findByCategoriaNombreUsaUnaSolaSentencia() {
+        assertUnaSolaSentencia(() -> vacanteRepository.findByCategoriaNombreContainingIgnoreCase("categoria"), 12);
+    }
+
+    @Test
+    void findByEmpresaNombreUsaUnaSolaSentencia() {
+        assertUnaSolaSentencia(() -> vacanteRepository.findByEmpresaNombreEmpresaContainingIgnoreCase("empresa"), 12);
+    }
+
+    @Test
+    void findByEmpresaIdUsaUnaSolaSentencia() {
+        assertUnaSolaSentencia(() -> vacanteRepository.findByEmpresaIdEmpresa(idEmpresa), 4);
+    }
+
+    @Test
+    void findBySalarioUsaUnaSolaSentencia() {
+        assertUnaSolaSentencia(() -> vacanteRepository.findBySalarioGreaterThanEqual(22000.0), 6);
+    }
+
+    @Test
+    void proyeccionesDTOUsanUnaSolaSentencia() {
+        assertProyeccion(vacanteRepository::findAllDTO, 12);
+        assertProyeccion(() -> vacanteRepository.findDTOByNombre("vacante"), 12);
+        assertProyeccion(() -> vacanteRepository.findDTOByCategoriaNombre("categoria"), 12);
+        assertProyeccion(() -> vacanteRepository.findDTOByEmpresaNombreEmpresa("empresa"), 12);
+        assertProyeccion(() -> vacanteRepository.findDTOByEmpresaId(idEmpresa), 4);
+        assertProyeccion(() -> vacanteRepository.findDTOBySalario(22000.0), 6);
+        assertProyeccion(() -> vacanteRepository.findPrimeraPagina(Limit.of(5)), 5);
+        assertProyeccion(() -> vacanteRepository.findPaginaSiguiente(LocalDate.of(2025, 1, 3),
+                Integer.MAX_VALUE, Limit.of(50)), 9);
+    }
+
+    @Test
+    void filtroCombinaCriteriosEnUnaSentencia() {
+        VacanteFiltroDTO filtro = VacanteFiltroDTO.builder()
+                .estatus(Vacante.Estatus.CREADA)
+                .destacado(false)
+                .idEmpresa(idEmpresa)
+                .salarioMin(21000.0)
+                .salarioMax(22000.0)
+                .fechaDesde(LocalDate.of(2025, 1, 1))
+                .build();
+
+        Page<Vacante> pagina = vacanteRepository.findAll(VacanteSpecifications.conFiltro(filtro),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "salario")));
+
+        assertThat(pagina.getContent()).extracting(Vacante::getSalario).containsExactly(22000.0, 21000.0);
+        assertThat(pagina.getContent()).allSatisfy(v -> assertThat(v.getEmpresa().getNombreEmpresa()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    /**
+     * Ejecuta la consulta, mapea el resultado a DTO y verifica que solo se ha
+     * preparado una sentencia SQL.
+     */
+    private void assertUnaSolaSentencia(Supplier<List<Vacante>> consulta, int esperadas) {
+        List<VacanteResponseDTO> dtos = consulta.get().stream()
+                .map(v -> modelMapper.map(v, VacanteResponseDTO.class))
+                .toList();
+
+        assertThat(dtos).hasSize(esperadas);
+        assertThat(dtos).allSatisfy(dto -> {
+            assertThat(dto.getNombreCategoria()).isNotNull();
+            assertThat(dto.getNombreEmpresa()).isNotNull();
+            assertThat(dto.getPais()).isEqualTo("España");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    /**
+     * Ejecuta una proyección a DTO y verifica que usa una única sentencia y no
+     * carga ninguna entidad en el contexto de persistencia.
+     */
+    private void assertProyeccion(Supplier<List<VacanteResponseDTO>> consulta, int esperadas) {
+        statistics.clear();
+        List<VacanteResponseDTO> dtos = consulta.get();
+
+        assertThat(dtos).hasSize(esperadas);
+        assertThat(dtos).allSatisfy(dto -> assertThat(dto.getNombreEmpresa()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,126 @@
+package vacantes_api.modelo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.entity.Empresa;
+import vacantes_api.modelo.entity.Solicitud;
+import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.entity.Vacante;
+
+/**
+ * Comprueba que {@link AutorizacionServiceImplMy8} resuelve cada comprobación
+ * de propiedad con una sola consulta.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(AutorizacionServiceImplMy8.class)
+class AutorizacionServiceTest {
+
+    private static final String PROPIETARIA = "propietaria@email.com";
+
+    private static final String OTRA = "otra@email.com";
+
+    @Autowired
+    private IAutorizacionService autorizacionService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Integer idVacante;
+
+    private Integer idSolicitud;
+
+    @BeforeEach
+    void setUp() {
+        Categoria categoria = Categoria.builder().nombre("Informática").build();
+        entityManager.persist(categoria);
+        Empresa propietaria = empresa(PROPIETARIA, "B00000001");
+        empresa(OTRA, "B00000002");
+        Usuario cliente = usuario("cliente@email.com", "CLIENTE");
+
+        Vacante vacante = Vacante.builder()
+                .nombre("Backend")
+                .descripcion("Descripción")
+                .fecha(LocalDate.of(2025, 1, 1))
+                .salario(30000.0)
+                .estatus(Vacante.Estatus.CREADA)
+                .destacado(false)
+                .imagen("imagen.jpg")
+                .detalles("Detalles")
+                .categoria(categoria)
+                .empresa(propietaria)
+                .build();
+        entityManager.persist(vacante);
+        Solicitud solicitud = Solicitud.builder()
+                .fecha(LocalDate.of(2025, 2, 1))
+                .archivo("cv.pdf")
+                .vacante(vacante)
+                .usuario(cliente)
+                .build();
+        entityManager.persist(solicitud);
+        entityManager.flush();
+        entityManager.clear();
+
+        idVacante = vacante.getIdVacante();
+        idSolicitud = solicitud.getIdSolicitud();
+    }
+
+    @Test
+    void soloLaEmpresaPropietariaPasaLaComprobacion() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThat(autorizacionService.esPropietarioDeVacante(idVacante, PROPIETARIA)).isTrue();
+        assertThat(autorizacionService.esPropietarioDeSolicitud(idSolicitud, PROPIETARIA)).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        assertThat(autorizacionService.esPropietarioDeVacante(idVacante, OTRA)).isFalse();
+        assertThat(autorizacionService.esPropietarioDeSolicitud(idSolicitud, OTRA)).isFalse();
+        assertThat(autorizacionService.esPropietarioDeVacante(-1, PROPIETARIA)).isFalse();
+        assertThat(autorizacionService.esPropietarioDeSolicitud(-1, PROPIETARIA)).isFalse();
+    }
+
+    private Empresa empresa(String email, String cif) {
+        Empresa empresa = Empresa.builder()
+                .cif(cif)
+                .nombreEmpresa(email)
+                .pais("España")
+                .usuario(usuario(email, "EMPRESA"))
+                .build();
+        entityManager.persist(empresa);
+        return empresa;
+    }
+
+    private Usuario usuario(String email, String rol) {
+        Usuario usuario = Usuario.builder()
+                .email(email)
+                .nombre("Nombre")
+                .apellidos("Apellidos")
+                .password("x")
+                .enabled(1)
+                .rol(rol)
+                .build();
+        entityManager.persist(usuario);
+        return usuario;
+    }
+}
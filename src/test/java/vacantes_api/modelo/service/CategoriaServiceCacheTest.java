@@ -0,0 +1,101 @@
+package vacantes_api.modelo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManagerFactory;
+import vacantes_api.config.CacheConfig;
+import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.repository.ICategoriaRepository;
+
+/**
+ * Comprueba que las lecturas del catálogo de categorías se sirven desde caché
+ * y que las escrituras confirmadas la invalidan.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ CacheConfig.class, CategoriaServiceImplMy8.class })
+class CategoriaServiceCacheTest {
+
+    @Autowired
+    private ICategoriaRepository categoriaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ICategoriaService categoriaService;
+
+    private Statistics statistics;
+
+    private Integer idCategoria;
+
+    @BeforeEach
+    void setUp() {
+        idCategoria = categoriaRepository.save(Categoria.builder().nombre("Informática").build()).getIdCategoria();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoriaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void lecturasRepetidasNoConsultanLaBaseDeDatos() {
+        categoriaService.findAllDTO();
+        categoriaService.findDTOById(idCategoria);
+        categoriaService.findDTOByName("info");
+        long sentencias = statistics.getPrepareStatementCount();
+
+        assertThat(categoriaService.findAllDTO()).hasSize(1);
+        assertThat(categoriaService.findDTOById(idCategoria)).isPresent();
+        assertThat(categoriaService.findDTOByName("info")).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(sentencias);
+    }
+
+    @Test
+    void readDevuelveLaEntidadDesdeLaCacheDeSegundoNivel() {
+        categoriaService.read(idCategoria);
+        long sentencias = statistics.getPrepareStatementCount();
+
+        Categoria categoria = categoriaService.read(idCategoria).orElseThrow();
+        assertThat(categoria.getNombre()).isEqualTo("Informática");
+        assertThat(categoria.getVacantes()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(sentencias);
+    }
+
+    @Test
+    void escriturasInvalidanLaCache() {
+        assertThat(categoriaService.findAllDTO()).hasSize(1);
+        assertThat(categoriaService.findDTOById(idCategoria)).isPresent();
+
+        Categoria categoria = categoriaService.read(idCategoria).orElseThrow();
+        categoria.setNombre("Sistemas");
+        categoriaService.update(categoria);
+        categoriaService.create(Categoria.builder().nombre("Diseño").build());
+
+        assertThat(categoriaService.findAllDTO()).hasSize(2);
+        assertThat(categoriaService.findDTOById(idCategoria)).get()
+                .extracting(c -> c.getNombre()).isEqualTo("Sistemas");
+    }
+}
@@ -0,0 +1,126 @@
+package vacantes_api.modelo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import vacantes_api.modelo.dto.EmpresaResponseDTO;
+import vacantes_api.modelo.dto.PaginaDTO;
+import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.entity.Empresa;
+import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.entity.Vacante;
+import vacantes_api.modelo.mapper.EmpresaMapper;
+
+/**
+ * Comprueba que {@link EmpresaServiceImplMy8#findPaginaByEstado} filtra por el
+ * estado del usuario en SQL y que el número de consultas no depende del número
+ * de empresas ni de vacantes.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ EmpresaServiceImplMy8.class, EmpresaMapper.class })
+class EmpresaServicePaginaTest {
+
+    @Autowired
+    private IEmpresaService empresaService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Categoria categoria;
+
+    private int empresas;
+
+    @BeforeEach
+    void setUp() {
+        categoria = Categoria.builder().nombre("Informática").build();
+        entityManager.persist(categoria);
+
+        empresa("activa1@email.com", 1, 2);
+        empresa("inactiva@email.com", 0, 1);
+        empresa("activa2@email.com", 1, 3);
+        empresa("activa3@email.com", 1, 0);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void paginaLasEmpresasActivasConSusVacantesEnTresConsultas() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        PaginaDTO<EmpresaResponseDTO> pagina = empresaService.findPaginaByEstado(1,
+                PageRequest.of(0, 2, Sort.by("idEmpresa")));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(pagina.getTotalElementos()).isEqualTo(3);
+        assertThat(pagina.getTotalPaginas()).isEqualTo(2);
+        assertThat(pagina.getContenido()).extracting(EmpresaResponseDTO::getEmail)
+                .containsExactly("activa1@email.com", "activa2@email.com");
+        assertThat(pagina.getContenido()).extracting(e -> e.getVacantes().size()).containsExactly(2, 3);
+    }
+
+    @Test
+    void filtraLasEmpresasDesactivadas() {
+        PaginaDTO<EmpresaResponseDTO> pagina = empresaService.findPaginaByEstado(0,
+                PageRequest.of(0, 20, Sort.by("idEmpresa")));
+
+        assertThat(pagina.getContenido()).singleElement().satisfies(e -> {
+            assertThat(e.getEmail()).isEqualTo("inactiva@email.com");
+            assertThat(e.getVacantes()).hasSize(1);
+        });
+    }
+
+    private void empresa(String email, int enabled, int vacantes) {
+        Usuario usuario = Usuario.builder()
+                .email(email)
+                .nombre("Nombre")
+                .apellidos("Apellidos")
+                .password("x")
+                .enabled(enabled)
+                .rol("EMPRESA")
+                .build();
+        entityManager.persist(usuario);
+        Empresa empresa = Empresa.builder()
+                .cif(String.format("B%08d", ++empresas))
+                .nombreEmpresa(email)
+                .pais("España")
+                .usuario(usuario)
+                .build();
+        entityManager.persist(empresa);
+
+        for (int i = 0; i < vacantes; i++) {
+            entityManager.persist(Vacante.builder()
+                    .nombre("Vacante " + i)
+                    .descripcion("Descripción")
+                    .fecha(LocalDate.of(2025, 1, 1))
+                    .salario(30000.0)
+                    .estatus(Vacante.Estatus.CREADA)
+                    .destacado(false)
+                    .imagen("imagen.jpg")
+                    .detalles("Detalles")
+                    .categoria(categoria)
+                    .empresa(empresa)
+                    .build());
+        }
+    }
+}
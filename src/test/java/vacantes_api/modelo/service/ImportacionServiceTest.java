@@ -0,0 +1,233 @@
+package vacantes_api.modelo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import vacantes_api.config.CacheConfig;
+import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.entity.Empresa;
+import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.entity.Vacante;
+import vacantes_api.modelo.repository.ICategoriaRepository;
+import vacantes_api.modelo.repository.IEmpresaRepository;
+import vacantes_api.modelo.repository.ISolicitudRepository;
+import vacantes_api.modelo.repository.IUsuarioRepository;
+import vacantes_api.modelo.repository.IVacanteRepository;
+
+/**
+ * Comprueba que la importación masiva guarda en lotes confirmados por
+ * separado, agrupa los INSERT en lotes JDBC y se detiene en el primer
+ * elemento no válido conservando los lotes anteriores.
+ */
+@DataJpaTest(properties = "vacantes.importacion.tamano-lote=50")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration({ JacksonAutoConfiguration.class, ValidationAutoConfiguration.class })
+@Import({ CacheConfig.class, ImportacionServiceImplMy8.class, CategoriaServiceImplMy8.class })
+class ImportacionServiceTest {
+
+    @Autowired
+    private IImportacionService importacionService;
+
+    @Autowired
+    private IVacanteRepository vacanteRepository;
+
+    @Autowired
+    private ISolicitudRepository solicitudRepository;
+
+    @Autowired
+    private ICategoriaRepository categoriaRepository;
+
+    @Autowired
+    private IEmpresaRepository empresaRepository;
+
+    @Autowired
+    private IUsuarioRepository usuarioRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Empresa empresa;
+
+    private Integer idCategoria;
+
+    @BeforeEach
+    void setUp() {
+        Usuario usuario = usuarioRepository.save(Usuario.builder()
+                .email("empresa@email.com")
+                .nombre("Empresa")
+                .apellidos("Prueba")
+                .password("x")
+                .enabled(1)
+                .rol("EMPRESA")
+                .build());
+        empresa = empresaRepository.save(Empresa.builder()
+                .cif("B00000000")
+                .nombreEmpresa("Empresa")
+                .pais("España")
+                .usuario(usuario)
+                .build());
+        idCategoria = categoriaRepository.save(Categoria.builder().nombre("Informática").build()).getIdCategoria();
+    }
+
+    @AfterEach
+    void tearDown() {
+        solicitudRepository.deleteAllInBatch();
+        vacanteRepository.deleteAllInBatch();
+        empresaRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        usuarioRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void importaVacantesEnLotesJdbc() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var resultado = importacionService.importarVacantes(json(120, -1), empresa);
+
+        assertThat(resultado.getImportados()).isEqualTo(120);
+        assertThat(resultado.getLotes()).isEqualTo(3);
+        assertThat(vacanteRepository.count()).isEqualTo(120);
+        // Un INSERT preparado por lote JDBC y una reserva de IDs por bloque, no una sentencia por fila
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+    }
+
+    @Test
+    void noRetieneEntidadesEnElEntityManagerDeLaPeticion() throws Exception {
+        // Igual que open-in-view: un EntityManager ligado al hilo durante toda la petición
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            importacionService.importarVacantes(json(120, -1), empresa);
+
+            assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+
+    @Test
+    void elementoNoValidoConservaLosLotesAnteriores() {
+        assertThatThrownBy(() -> importacionService.importarVacantes(json(120, 75), empresa))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Elemento 75")
+                .hasMessageContaining("nombre");
+
+        assertThat(vacanteRepository.count()).isEqualTo(50);
+    }
+
+    @Test
+    void solicitudConVacanteInexistenteRechazaElLote() {
+        InputStream json = cuerpo("[{\"fecha\":\"2025-01-01\",\"archivo\":\"cv.pdf\",\"estado\":0,"
+                + "\"idVacante\":999999,\"email\":\"empresa@email.com\"}]");
+
+        assertThatThrownBy(() -> importacionService.importarSolicitudes(json))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(solicitudRepository.count()).isZero();
+    }
+
+    @Test
+    void solicitudAdjudicadaCubreLaVacante() throws Exception {
+        Integer idVacante = crearVacante(Vacante.Estatus.CREADA);
+
+        importacionService.importarSolicitudes(cuerpo("[" + solicitud(idVacante, 1) + "]"));
+
+        assertThat(vacanteRepository.findById(idVacante)).get()
+                .extracting(Vacante::getEstatus).isEqualTo(Vacante.Estatus.CUBIERTA);
+        assertThat(solicitudRepository.existsByVacanteIdVacanteAndEstado(idVacante, 1)).isTrue();
+    }
+
+    @Test
+    void segundaSolicitudAdjudicadaDeLaVacanteSeRechaza() {
+        Integer idVacante = crearVacante(Vacante.Estatus.CREADA);
+        InputStream json = cuerpo("[" + solicitud(idVacante, 1) + "," + solicitud(idVacante, 1) + "]");
+
+        assertThatThrownBy(() -> importacionService.importarSolicitudes(json))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Elemento 1");
+        assertThat(solicitudRepository.count()).isZero();
+    }
+
+    @Test
+    void solicitudAdjudicadaDeVacanteCubiertaRechazaElLote() {
+        Integer idVacante = crearVacante(Vacante.Estatus.CUBIERTA);
+        InputStream json = cuerpo("[" + solicitud(idVacante, 0) + "," + solicitud(idVacante, 1) + "]");
+
+        assertThatThrownBy(() -> importacionService.importarSolicitudes(json))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("no está disponible");
+        assertThat(solicitudRepository.count()).isZero();
+    }
+
+    private Integer crearVacante(Vacante.Estatus estatus) {
+        return vacanteRepository.save(Vacante.builder()
+                .nombre("Vacante")
+                .descripcion("Descripción")
+                .fecha(LocalDate.of(2025, 1, 1))
+                .salario(20000.0)
+                .estatus(estatus)
+                .destacado(false)
+                .imagen("imagen.jpg")
+                .detalles("Detalles")
+                .categoria(categoriaRepository.getReferenceById(idCategoria))
+                .empresa(empresa)
+                .build()).getIdVacante();
+    }
+
+    private static String solicitud(Integer idVacante, int estado) {
+        return "{\"fecha\":\"2025-01-01\",\"archivo\":\"cv.pdf\",\"estado\":" + estado
+                + ",\"idVacante\":" + idVacante + ",\"email\":\"empresa@email.com\"}";
+    }
+
+    /**
+     * Genera un array JSON de vacantes; la de posición {@code invalida} se
+     * genera sin nombre.
+     */
+    private InputStream json(int total, int invalida) {
+        return cuerpo(IntStream.range(0, total)
+                .mapToObj(i -> "{\"nombre\":\"" + (i == invalida ? "" : "Vacante " + i) + "\","
+                        + "\"descripcion\":\"Descripción\",\"fecha\":\"" + LocalDate.of(2025, 1, 1) + "\","
+                        + "\"salario\":20000,\"estatus\":\"CREADA\",\"destacado\":false,"
+                        + "\"imagen\":\"imagen.jpg\",\"detalles\":\"Detalles\","
+                        + "\"idCategoria\":" + idCategoria + ",\"idEmpresa\":" + empresa.getIdEmpresa() + "}")
+                .collect(Collectors.joining(",", "[", "]")));
+    }
+
+    private static InputStream cuerpo(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,273 @@
+package vacantes_api.modelo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManagerFactory;
+import vacantes_api.modelo.entity.Categoria;
+import vacantes_api.modelo.entity.Empresa;
+import vacantes_api.modelo.entity.Solicitud;
+import vacantes_api.modelo.entity.Usuario;
+import vacantes_api.modelo.entity.Vacante;
+import vacantes_api.modelo.repository.ICategoriaRepository;
+import vacantes_api.modelo.repository.IEmpresaRepository;
+import vacantes_api.modelo.repository.ISolicitudRepository;
+import vacantes_api.modelo.repository.IUsuarioRepository;
+import vacantes_api.modelo.repository.IVacanteRepository;
+
+/**
+ * Comprueba los flujos de adjudicación y rechazo de
+ * {@link SolicitudServiceImplMy8}: la vacante se cubre de forma atómica, una
+ * segunda adjudicación sobre la misma vacante se rechaza y, con adjudicaciones
+ * y rechazos concurrentes, nunca hay más de una solicitud adjudicada por
+ * vacante.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(SolicitudServiceImplMy8.class)
+class SolicitudServiceAdjudicacionTest {
+
+    private static final int SOLICITUDES = 4;
+
+    private static final int HILOS = 8;
+
+    private static final int OPERACIONES_POR_HILO = 50;
+
+    @Autowired
+    private ISolicitudService solicitudService;
+
+    @Autowired
+    private IVacanteRepository vacanteRepository;
+
+    @Autowired
+    private ISolicitudRepository solicitudRepository;
+
+    @Autowired
+    private ICategoriaRepository categoriaRepository;
+
+    @Autowired
+    private IEmpresaRepository empresaRepository;
+
+    @Autowired
+    private IUsuarioRepository usuarioRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    private Integer idVacante;
+
+    private final List<Integer> idsSolicitudes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Usuario usuarioEmpresa = usuarioRepository.save(usuario("empresa@email.com", "EMPRESA"));
+        Empresa empresa = empresaRepository.save(Empresa.builder()
+                .cif("B00000000")
+                .nombreEmpresa("Empresa")
+                .pais("España")
+                .usuario(usuarioEmpresa)
+                .build());
+        Categoria categoria = categoriaRepository.save(Categoria.builder().nombre("Informática").build());
+        Vacante vacante = vacanteRepository.save(Vacante.builder()
+                .nombre("Backend")
+                .descripcion("Descripción")
+                .fecha(LocalDate.of(2025, 1, 1))
+                .salario(30000.0)
+                .estatus(Vacante.Estatus.CREADA)
+                .destacado(false)
+                .imagen("imagen.jpg")
+                .detalles("Detalles")
+                .categoria(categoria)
+                .empresa(empresa)
+                .build());
+        idVacante = vacante.getIdVacante();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (int i = 0; i < SOLICITUDES; i++) {
+            Usuario cliente = usuarioRepository.save(usuario("cliente" + i + "@email.com", "CLIENTE"));
+            idsSolicitudes.add(solicitudRepository.save(Solicitud.builder()
+                    .fecha(LocalDate.of(2025, 2, 1))
+                    .archivo("cv.pdf")
+                    .vacante(vacante)
+                    .usuario(cliente)
+                    .build()).getIdSolicitud());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        solicitudRepository.deleteAllInBatch();
+        vacanteRepository.deleteAllInBatch();
+        empresaRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        usuarioRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void adjudicarCubreLaVacanteYRechazaLasDemas() {
+        Integer seleccionada = idsSolicitudes.get(1);
+
+        solicitudService.adjudicarSolicitud(seleccionada);
+
+        Vacante vacante = vacanteRepository.findById(idVacante).orElseThrow();
+        assertThat(vacante.getEstatus()).isEqualTo(Vacante.Estatus.CUBIERTA);
+        assertThat(vacante.getVersion()).isEqualTo(1);
+        assertThat(solicitudRepository.findAll()).allSatisfy(s -> {
+            assertThat(s.getEstado()).isEqualTo(s.getIdSolicitud().equals(seleccionada) ? 1 : 2);
+            assertThat(s.getVersion()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void segundaAdjudicacionDeLaMismaVacanteSeRechaza() {
+        solicitudService.adjudicarSolicitud(idsSolicitudes.get(0));
+
+        assertThatThrownBy(() -> solicitudService.adjudicarSolicitud(idsSolicitudes.get(2)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(solicitudRepository.findAll())
+                .filteredOn(s -> s.getEstado() == 1)
+                .extracting(Solicitud::getIdSolicitud)
+                .containsExactly(idsSolicitudes.get(0));
+    }
+
+    @Test
+    void rechazarLaAdjudicadaReabreLaVacante() {
+        solicitudService.adjudicarSolicitud(idsSolicitudes.get(0));
+        statistics.clear();
+        solicitudService.rechazarSolicitud(idsSolicitudes.get(0), idVacante);
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+
+        assertThat(vacanteRepository.findById(idVacante).orElseThrow().getEstatus())
+                .isEqualTo(Vacante.Estatus.CREADA);
+
+        assertThat(solicitudRepository.findAll()).allSatisfy(s -> assertThat(s.getEstado())
+                .isEqualTo(s.getIdSolicitud().equals(idsSolicitudes.get(0)) ? 2 : 0));
+
+        solicitudService.adjudicarSolicitud(idsSolicitudes.get(3));
+        assertThat(solicitudRepository.findById(idsSolicitudes.get(3)).orElseThrow().getEstado()).isEqualTo(1);
+    }
+
+    @Test
+    void rechazarUnaPendienteUsaUnaTransaccionConDosSentencias() {
+        statistics.clear();
+        solicitudService.rechazarSolicitud(idsSolicitudes.get(2), idVacante);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getTransactionCount()).isEqualTo(1);
+        assertThat(solicitudRepository.findById(idsSolicitudes.get(2)).orElseThrow().getEstado()).isEqualTo(2);
+        assertThatThrownBy(() -> solicitudService.rechazarSolicitud(idsSolicitudes.get(2), idVacante))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * Adjudica y rechaza solicitudes de la misma vacante desde varios hilos a
+     * la vez y comprueba, durante y después de la carga, que nunca hay más de
+     * una solicitud adjudicada y que el estado de la vacante es coherente con
+     * ellas.
+     */
+    @Test
+    void adjudicacionesYRechazosConcurrentesMantienenUnaSolaAdjudicada() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(HILOS);
+        AtomicBoolean activo = new AtomicBoolean(true);
+        AtomicInteger maximoAdjudicadas = new AtomicInteger();
+        List<Throwable> errores = new CopyOnWriteArrayList<>();
+        CountDownLatch inicio = new CountDownLatch(1);
+
+        List<Future<?>> tareas = new ArrayList<>();
+        for (int h = 0; h < HILOS; h++) {
+            int semilla = h;
+            tareas.add(executor.submit(() -> {
+                Random random = new Random(semilla);
+                inicio.await();
+                for (int i = 0; i < OPERACIONES_POR_HILO; i++) {
+                    Integer idSolicitud = idsSolicitudes.get(random.nextInt(SOLICITUDES));
+                    try {
+                        if (random.nextBoolean()) {
+                            solicitudService.adjudicarSolicitud(idSolicitud);
+                        } else {
+                            solicitudService.rechazarSolicitud(idSolicitud, idVacante);
+                        }
+                    } catch (IllegalStateException | ConcurrencyFailureException e) {
+                        // la operación ha perdido la carrera frente a otra: resultado esperado
+                    } catch (RuntimeException e) {
+                        errores.add(e);
+                    }
+                }
+                return null;
+            }));
+        }
+        Future<?> vigilante = executor.submit(() -> {
+            while (activo.get()) {
+                maximoAdjudicadas.accumulateAndGet(contarAdjudicadas(), Math::max);
+            }
+        });
+
+        inicio.countDown();
+        for (Future<?> tarea : tareas) {
+            tarea.get(60, TimeUnit.SECONDS);
+        }
+        activo.set(false);
+        vigilante.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(errores).isEmpty();
+        assertThat(maximoAdjudicadas.get()).isLessThanOrEqualTo(1);
+
+        int adjudicadas = contarAdjudicadas();
+        Vacante.Estatus estatus = vacanteRepository.findById(idVacante).orElseThrow().getEstatus();
+        assertThat(adjudicadas).isEqualTo(estatus == Vacante.Estatus.CUBIERTA ? 1 : 0);
+    }
+
+    private int contarAdjudicadas() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM solicitudes WHERE id_vacante = ? AND estado = 1", Integer.class, idVacante);
+    }
+
+    private static Usuario usuario(String email, String rol) {
+        return Usuario.builder()
+                .email(email)
+                .nombre("Nombre")
+                .apellidos("Apellidos")
+                .password("x")
+                .enabled(1)
+                .rol(rol)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package vacantes_api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import vacantes_api.modelo.dto.SolicitudResponseDTO;
+import vacantes_api.modelo.service.ISolicitudService;
+
+/**
+ * Pruebas del formato de salida de {@link ExportadorSolicitudes}.
+ */
+class ExportadorSolicitudesTest {
+
+    private ExportadorSolicitudes exportador;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        List<SolicitudResponseDTO> solicitudes = List.of(
+                SolicitudResponseDTO.builder()
+                        .idSolicitud(1)
+                        .fecha(LocalDate.of(2025, 3, 1))
+                        .estado(0)
+                        .comentarios("Disponible, \"inmediata\"")
+                        .idVacante(7)
+                        .nombreVacante("Backend")
+                        .emailUsuario("ana@email.com")
+                        .build(),
+                SolicitudResponseDTO.builder()
+                        .idSolicitud(2)
+                        .fecha(LocalDate.of(2025, 3, 2))
+                        .estado(1)
+                        .comentarios("Línea 1\nLínea 2")
+                        .idVacante(7)
+                        .nombreVacante("Backend")
+                        .emailUsuario("luis@email.com")
+                        .build());
+
+        ISolicitudService solicitudService = mock(ISolicitudService.class);
+        doAnswer(inv -> {
+            solicitudes.forEach(inv.<Consumer<SolicitudResponseDTO>>getArgument(1));
+            return null;
+        }).when(solicitudService).forEachDTOByVacanteId(eq(7), any(Consumer.class));
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        exportador = new ExportadorSolicitudes(solicitudService, objectMapper);
+    }
+
+    @Test
+    void ndjsonEscribeUnObjetoPorLinea() throws IOException {
+        String[] lineas = exportar(ExportadorSolicitudes.Formato.NDJSON).split("\n");
+
+        assertThat(lineas).hasSize(2);
+        assertThat(lineas[0]).startsWith("{\"idSolicitud\":1,").contains("\"emailUsuario\":\"ana@email.com\"");
+        assertThat(lineas[1]).startsWith("{\"idSolicitud\":2,").contains("Línea 1\\nLínea 2");
+    }
+
+    @Test
+    void csvEscapaComasComillasYSaltosDeLinea() throws IOException {
+        String csv = exportar(ExportadorSolicitudes.Formato.CSV);
+
+        assertThat(csv).startsWith("idSolicitud,fecha,estado,");
+        assertThat(csv).contains("\r\n1,2025-03-01,0,,,\"Disponible, \"\"inmediata\"\"\",7,Backend,,,ana@email.com,,\r\n");
+        assertThat(csv).contains("\r\n2,2025-03-02,1,,,\"Línea 1\nLínea 2\",7,Backend,,,luis@email.com,,\r\n");
+    }
+
+    @Test
+    void csvNeutralizaFormulas() {
+        assertThat(ExportadorSolicitudes.campoCsv("=HYPERLINK(\"http://x\")"))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://x\"\")\"");
+        assertThat(ExportadorSolicitudes.campoCsv("+34 600")).isEqualTo("'+34 600");
+        assertThat(ExportadorSolicitudes.campoCsv("-1")).isEqualTo("'-1");
+        assertThat(ExportadorSolicitudes.campoCsv("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(ExportadorSolicitudes.campoCsv(-1)).isEqualTo("-1");
+        assertThat(ExportadorSolicitudes.campoCsv("ana@email.com")).isEqualTo("ana@email.com");
+    }
+
+    @Test
+    void formatoDesconocidoSeRechaza() {
+        assertThat(ExportadorSolicitudes.Formato.of("CSV")).isEqualTo(ExportadorSolicitudes.Formato.CSV);
+        assertThatThrownBy(() -> ExportadorSolicitudes.Formato.of("xml"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String exportar(ExportadorSolicitudes.Formato formato) throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        exportador.exportar(7, formato, salida);
+        return salida.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,62 @@
+package vacantes_api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.ServletException;
+import vacantes_api.config.LimitadorConcurrencia;
+
+/**
+ * Pruebas de {@link LimiteConcurrenciaFilter}.
+ */
+class LimiteConcurrenciaFilterTest {
+
+    private final LimitadorConcurrencia limitador = new LimitadorConcurrencia(1, Duration.ofMillis(10));
+
+    private final LimiteConcurrenciaFilter filtro = new LimiteConcurrenciaFilter(limitador);
+
+    @Test
+    void liberaElPermisoAlTerminar() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(new MockHttpServletRequest("GET", "/vacantes"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(limitador.getDisponibles()).isEqualTo(1);
+    }
+
+    @Test
+    void peticionAsincronaConservaElPermisoHastaTerminar() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/solicitudes/vacante/1/export");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filtro.doFilter(request, response, (req, res) -> req.startAsync());
+        assertThat(limitador.getDisponibles()).isZero();
+
+        request.getAsyncContext().complete();
+        assertThat(limitador.getDisponibles()).isEqualTo(1);
+    }
+
+    @Test
+    void sinPermisosRespondeServicioNoDisponible() throws ServletException, IOException {
+        assertThat(limitador.adquirir()).isTrue();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(new MockHttpServletRequest("GET", "/vacantes"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+        MockHttpServletResponse salud = new MockHttpServletResponse();
+        filtro.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), salud, new MockFilterChain());
+        assertThat(salud.getStatus()).isEqualTo(200);
+    }
+}
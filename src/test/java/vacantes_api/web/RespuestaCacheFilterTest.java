@@ -0,0 +1,109 @@
+package vacantes_api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import vacantes_api.modelo.event.VacanteModificadaEvent;
+
+/**
+ * Pruebas de {@link RespuestaCacheFilter} con un servlet simulado que cuenta
+ * cuántas veces se genera realmente la respuesta.
+ */
+class RespuestaCacheFilterTest {
+
+    private RespuestaCacheFilter filtro;
+
+    private AtomicInteger generadas;
+
+    private HttpServlet servlet;
+
+    @BeforeEach
+    void setUp() {
+        filtro = new RespuestaCacheFilter(Duration.ofMinutes(10), 100);
+        generadas = new AtomicInteger();
+        servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                resp.getOutputStream().write(("[{\"version\":" + generadas.incrementAndGet() + "}]")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+        };
+    }
+
+    @Test
+    void peticionesRepetidasSeSirvenDesdeCache() throws Exception {
+        MockHttpServletResponse primera = ejecutar(get("/vacantes"));
+        MockHttpServletResponse segunda = ejecutar(get("/vacantes"));
+
+        assertThat(generadas).hasValue(1);
+        assertThat(segunda.getStatus()).isEqualTo(200);
+        assertThat(segunda.getContentAsString()).isEqualTo(primera.getContentAsString());
+        assertThat(segunda.getHeader(HttpHeaders.ETAG)).isEqualTo(primera.getHeader(HttpHeaders.ETAG)).isNotBlank();
+    }
+
+    @Test
+    void ifNoneMatchCoincidenteDevuelve304() throws Exception {
+        String etag = ejecutar(get("/vacantes/1")).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest condicional = get("/vacantes/1");
+        condicional.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse respuesta = ejecutar(condicional);
+
+        assertThat(respuesta.getStatus()).isEqualTo(304);
+        assertThat(respuesta.getContentLength()).isZero();
+        assertThat(generadas).hasValue(1);
+    }
+
+    @Test
+    void modificarVacantesInvalidaLaCache() throws Exception {
+        String etag = ejecutar(get("/vacantes")).getHeader(HttpHeaders.ETAG);
+        filtro.onVacanteModificada(VacanteModificadaEvent.deVacante(1));
+
+        MockHttpServletRequest condicional = get("/vacantes");
+        condicional.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse respuesta = ejecutar(condicional);
+
+        assertThat(respuesta.getStatus()).isEqualTo(200);
+        assertThat(respuesta.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(generadas).hasValue(2);
+    }
+
+    @Test
+    void vacantesPropiasYQueryStringsDistintasNoComparten() throws Exception {
+        ejecutar(get("/vacantes/propias"));
+        ejecutar(get("/vacantes/propias"));
+        MockHttpServletRequest pagina = get("/vacantes/pagina");
+        pagina.setQueryString("limit=5");
+        ejecutar(pagina);
+        ejecutar(get("/vacantes/pagina"));
+
+        assertThat(generadas).hasValue(4);
+    }
+
+    private MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    private MockHttpServletResponse ejecutar(MockHttpServletRequest request) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+}